@@ -11,6 +11,7 @@
  *   Fabio Gandolfi
  *     - initial API and implementation and/or initial documentation
  *   Ernst Blecha - refactoring of base classes for ant tasks
+ *   agent - optionally generate the exported files in parallel
  *******************************************************************************/
 package org.eclipse.fordiac.ide.ant.ant;
 
@@ -31,14 +32,26 @@
 import org.eclipse.core.runtime.Path;
 import org.eclipse.fordiac.ide.export.ExportException;
 import org.eclipse.fordiac.ide.export.ExportFilter;
+import org.eclipse.fordiac.ide.export.TemplateExportFilter;
+import org.eclipse.fordiac.ide.export.TemplateExportFilter.PreparedExport;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryTags;
 
 public abstract class AbstractFBTask extends Task {
+	/**
+	 * number of types prepared in parallel before they are written, limits the
+	 * generated files held in memory
+	 */
+	private static final int PREPARE_BATCH_SIZE = 4 * Runtime.getRuntime().availableProcessors();
+
+	private record Exportee(File folder, IFile file) {
+	}
+
 	private String projectNameString;
 	private IProject fordiacProject;
 	protected IWorkspace workspace;
 	protected String exportDirectory = getExportDirectoryDefault();
 	protected boolean preserveDirectoryStructure = false;
+	protected boolean parallel = false;
 	protected ExportFilter filter = getExportFilter();
 
 	protected abstract ExportFilter getExportFilter();
@@ -67,6 +80,10 @@ public void setPreserveDirectoryStructure(final boolean preserveDirectoryStructu
 		this.preserveDirectoryStructure = preserveDirectoryStructure;
 	}
 
+	public void setParallel(final boolean parallel) {
+		this.parallel = parallel;
+	}
+
 	@Override
 	public final void execute() throws BuildException {
 		if (getProjectNameString() == null) {
@@ -90,6 +107,7 @@ protected void exportFiles(final List<File> files) {
 			if (!folder.exists()) {
 				folder.mkdir();
 			}
+			final List<Exportee> exportees = new ArrayList<>(files.size());
 			for (final var file : files) {
 				final IPath location = Path.fromOSString(file.getAbsolutePath());
 				final IFile ifile = workspace.getRoot().getFileForLocation(location);
@@ -103,7 +121,33 @@ protected void exportFiles(final List<File> files) {
 						throw new BuildException("Can not create directory structure for export", e);//$NON-NLS-1$
 					}
 				}
-				exportFile(directory.toFile(), ifile);
+				exportees.add(new Exportee(directory.toFile(), ifile));
+			}
+			if (parallel && filter instanceof final TemplateExportFilter templateFilter) {
+				exportFilesParallel(templateFilter, exportees);
+			} else {
+				exportees.forEach(exportee -> exportFile(exportee.folder(), exportee.file()));
+			}
+		}
+	}
+
+	/*
+	 * Generate the files of a batch of types in parallel and write them one type
+	 * after the other in the order of the exportees.
+	 */
+	private void exportFilesParallel(final TemplateExportFilter templateFilter, final List<Exportee> exportees) {
+		for (int start = 0; start < exportees.size(); start += PREPARE_BATCH_SIZE) {
+			final List<PreparedExport> preparedExports = exportees
+					.subList(start, Math.min(start + PREPARE_BATCH_SIZE, exportees.size())).parallelStream()
+					.map(exportee -> templateFilter.prepare(exportee.file(), exportee.folder().getPath(), null))
+					.toList();
+			for (final PreparedExport prepared : preparedExports) {
+				try {
+					templateFilter.write(prepared, true);
+				} catch (final ExportException e) {
+					throw new BuildException("Could not export: " + e.getMessage(), e);//$NON-NLS-1$
+				}
+				checkExported(prepared.getTypeFile());
 			}
 		}
 	}
@@ -111,14 +155,18 @@ protected void exportFiles(final List<File> files) {
 	protected void exportFile(final File folder, final IFile file) {
 		try {
 			filter.export(file, folder.getPath(), true);
-			log(file.toString());// print it in console for ANT Tasks
-			if (!filter.getErrors().isEmpty()) {
-				filter.getErrors().forEach(this::log);
-				throw new BuildException("Could not export without errors"); //$NON-NLS-1$
-			}
 		} catch (final ExportException e) {
 			throw new BuildException("Could not export: " + e.getMessage(), e);//$NON-NLS-1$
 		}
+		checkExported(file);
+	}
+
+	private void checkExported(final IFile file) {
+		log(file.toString());// print it in console for ANT Tasks
+		if (!filter.getErrors().isEmpty()) {
+			filter.getErrors().forEach(this::log);
+			throw new BuildException("Could not export without errors"); //$NON-NLS-1$
+		}
 	}
 
 	protected void setFordiacProject(final IProject fordiacProject) {
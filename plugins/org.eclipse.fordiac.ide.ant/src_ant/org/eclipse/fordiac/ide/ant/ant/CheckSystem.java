@@ -9,6 +9,8 @@
  *
  * Contributors:
  *   Alois Zoitl - initial implementation and/or documentation
+ *   agent - optionally validate only changed and affected files
+ *   agent - document touching the affected files
  *******************************************************************************/
 package org.eclipse.fordiac.ide.ant.ant;
 
@@ -29,11 +31,24 @@
 public class CheckSystem extends Task {
 
 	private String systemPathString;
+	private boolean incremental = false;
 
 	public void setSystemPath(final String value) {
 		systemPathString = value;
 	}
 
+	/**
+	 * Validate the changed files and the files depending on them instead of
+	 * building the whole project before checking the markers of the system. The
+	 * affected files are touched in the workspace (see
+	 * {@link Import4diacProject#setIncremental(boolean)}).
+	 *
+	 * @param incremental true to validate incrementally
+	 */
+	public void setIncremental(final boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	@Override
 	public void execute() throws BuildException {
 		if (systemPathString == null) {
@@ -48,8 +63,12 @@ public void execute() throws BuildException {
 
 		// load the system to get the error markers in place
 		SystemManager.INSTANCE.getSystem(systemFile);
-		Import4diacProject.runFullBuild(systemFile.getProject());
-		Import4diacProject.waitBuilderJobsComplete();
+		if (incremental) {
+			Import4diacProject.runIncrementalValidation(systemFile.getProject(), this);
+		} else {
+			Import4diacProject.runFullBuild(systemFile.getProject());
+			Import4diacProject.waitBuilderJobsComplete();
+		}
 
 		try {
 			final var markers = Arrays.asList(systemFile.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_ZERO));
@@ -10,6 +10,8 @@
  * Contributors:
  *   Fabio Gandolfi - initial implementation and/or documentation
  *   Ernst Blecha - refactoring
+ *   agent - optionally validate changed and affected types before checking
+ *   agent - document touching the affected files
  *******************************************************************************/
 package org.eclipse.fordiac.ide.ant.ant;
 
@@ -31,11 +33,23 @@
 public class CheckTypeLibrary extends Task {
 
 	private String projectNameString;
+	private boolean incremental = false;
 
 	public void setProjectName(final String value) {
 		projectNameString = value;
 	}
 
+	/**
+	 * Validate the changed files and the files depending on them before checking
+	 * the markers of the type library. The affected files are touched in the
+	 * workspace (see {@link Import4diacProject#setIncremental(boolean)}).
+	 *
+	 * @param incremental true to validate incrementally
+	 */
+	public void setIncremental(final boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	@Override
 	public void execute() throws BuildException {
 		log("=======================================================");//$NON-NLS-1$
@@ -52,6 +66,10 @@ public void execute() throws BuildException {
 			throw new BuildException("Project named '" + projectNameString + "' not in workspace");//$NON-NLS-1$ //$NON-NLS-2$
 		}
 
+		if (incremental) {
+			Import4diacProject.runIncrementalValidation(project, this);
+		}
+
 		// log Markers, only visible in console output
 		try {
 			final var markers = Arrays.asList(project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE))
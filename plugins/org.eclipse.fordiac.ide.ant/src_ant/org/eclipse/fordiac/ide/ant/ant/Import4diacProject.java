@@ -9,16 +9,21 @@
  *
  * Contributors:
  *   Alois Zoitl - initial implementation and/or documentation
+ *   agent - incremental validation of changed and affected files
+ *   agent - document touching the affected files
  *******************************************************************************/
 package org.eclipse.fordiac.ide.ant.ant;
 
 import java.io.File;
 import java.text.MessageFormat;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.ProjectComponent;
 import org.apache.tools.ant.Task;
 import org.eclipse.ant.core.AntCorePlugin;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IWorkspace;
@@ -31,17 +36,36 @@
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryManager;
+import org.eclipse.fordiac.ide.model.typelibrary.ValidationState;
 import org.eclipse.fordiac.ide.systemmanagement.SystemManager;
 
 public class Import4diacProject extends Task {
 
 	private String projectPathString;
+	private boolean incremental = false;
 
 	public void setProjectPath(final String value) {
 		projectPathString = value;
 	}
 
+	/**
+	 * Only validate the files that changed since the last incremental validation
+	 * of the project and the files depending on them instead of building the whole
+	 * project (see {@link #runIncrementalValidation(IProject, ProjectComponent)}).
+	 *
+	 * Note that the affected files are touched to get them validated again. This
+	 * neither writes the files nor changes their time stamps in the file system,
+	 * but it increments their modification stamps in the workspace and reports
+	 * them as changed to all resource listeners and builders of the workspace.
+	 *
+	 * @param incremental true to validate incrementally, false for a full build
+	 */
+	public void setIncremental(final boolean incremental) {
+		this.incremental = incremental;
+	}
+
 	@Override
 	public void execute() throws BuildException {
 		if (projectPathString == null) {
@@ -70,8 +94,12 @@ public void execute() throws BuildException {
 			check4diacProject(project);
 			TypeLibraryManager.INSTANCE.getTypeLibrary(project).reload();
 			waitBuilderJobsComplete();
-			runFullBuild(project);
-			waitBuilderJobsComplete();
+			if (incremental) {
+				runIncrementalValidation(project, this);
+			} else {
+				runFullBuild(project);
+				waitBuilderJobsComplete();
+			}
 
 		} catch (final CoreException e) {
 			throw new BuildException(e);
@@ -161,6 +189,36 @@ public static void runFullBuild(final IProject project) {
 		}
 	}
 
+	/**
+	 * Validate only the files that changed since the last incremental validation
+	 * of the project and all files depending on them.
+	 *
+	 * The affected files are touched so that the incremental build validates them
+	 * again, the results of all other files are kept in their persistent markers.
+	 * Touching only increments the modification stamps of the files in the
+	 * workspace, their content and file system time stamps are not changed.
+	 *
+	 * @param project     the project to validate
+	 * @param loggingTask the task for logging
+	 */
+	public static void runIncrementalValidation(final IProject project, final ProjectComponent loggingTask) {
+		final TypeLibrary typeLibrary = TypeLibraryManager.INSTANCE.getTypeLibrary(project);
+		final ValidationState validationState = ValidationState.load(project);
+		final Set<IFile> affectedFiles = validationState.getAffectedFiles(typeLibrary);
+		loggingTask.log(MessageFormat.format("Validating {0} changed or affected of {1} files", //$NON-NLS-1$
+				Integer.valueOf(affectedFiles.size()), Integer.valueOf(typeLibrary.getAllTypes().size())));
+		try {
+			for (final IFile file : affectedFiles) {
+				file.touch(null);
+			}
+			project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		} catch (final CoreException e) {
+			throw new BuildException(e);
+		}
+		waitBuilderJobsComplete();
+		validationState.save(typeLibrary);
+	}
+
 	public static void waitJobsComplete(final Predicate<Job> isValidJob) {
 
 		// Minimum wait time is needed to ensure that jobs are started by the
@@ -14,6 +14,7 @@
  *  		- initial API and implementation and/or initial documentation
  *  Alois Zoitl - Harmonized deployment and monitoring communication
  *  Andrea Zoitl - externalized all remaining strings
+ *  agent - timeout of batched requests
  *******************************************************************************/
 package org.eclipse.fordiac.ide.deployment.iec61499;
 
@@ -47,6 +48,7 @@ public final class Messages extends NLS {
 	public static String DeploymentExecutor_ForceValueFailed;
 	public static String DeploymentExecutor_ClearForceFailed;
 	public static String DeploymentExecutor_TriggerEventFailed;
+	public static String DeploymentExecutor_BatchResponseTimeout;
 
 	public static String DynamicTypeLoadDeploymentExecutor_QueryFailed;
 	public static String DynamicTypeLoadDeploymentExecutor_CreateTypeFailed;
@@ -56,9 +58,13 @@ public final class Messages extends NLS {
 	public static String EthernetDeviceManagementCommunicationHandler_CouldNotConnectToDevice;
 
 	public static String EthernetComHandler_InvalidMgmtID;
+	public static String EthernetComHandler_ConnectionClosed;
+	public static String EthernetComHandler_ResponseTimeout;
+	public static String EthernetComHandler_PendingResponsesTimeout;
 
 	public static String HoloblocDeploymentPreferences_PreferencePageDescription;
 	public static String HoloblocDeploymentPreferences_ConnectionTimout;
+	public static String HoloblocDeploymentPreferences_PipelinedRequests;
 
 	static {
 		// initialize resource bundle
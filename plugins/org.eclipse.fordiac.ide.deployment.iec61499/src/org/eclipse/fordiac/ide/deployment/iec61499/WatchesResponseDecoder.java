@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.deployment.iec61499;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.fordiac.ide.deployment.interactors.IWatchValueConsumer;
+
+/**
+ * Streaming decoder for read watches responses.
+ *
+ * Watches are read on every polling cycle. Instead of loading each response
+ * into a devResponse model the response is decoded with a StAX reader and the
+ * values are directly handed to an {@link IWatchValueConsumer}.
+ *
+ * Response format: <Response ID="43"> <Watches> <Resource name="RTest"> <FB
+ * name="FlipFlop"> <Port name="Q"> <Data value="FALSE" forced="false"></Data>
+ * </Port> <Port name="CNF"> <Data value="0" time="0"></Data> </Port> </FB>
+ * </Resource> </Watches> </Response>
+ */
+public final class WatchesResponseDecoder {
+
+	private static final String RESOURCE_ELEMENT = "Resource"; //$NON-NLS-1$
+	private static final String FB_ELEMENT = "FB"; //$NON-NLS-1$
+	private static final String PORT_ELEMENT = "Port"; //$NON-NLS-1$
+	private static final String DATA_ELEMENT = "Data"; //$NON-NLS-1$
+	private static final String NAME_ATTRIBUTE = "name"; //$NON-NLS-1$
+	private static final String VALUE_ATTRIBUTE = "value"; //$NON-NLS-1$
+	private static final String TIME_ATTRIBUTE = "time"; //$NON-NLS-1$
+	private static final String FORCED_ATTRIBUTE = "forced"; //$NON-NLS-1$
+
+	private static final XMLInputFactory FACTORY = createFactory();
+
+	private static XMLInputFactory createFactory() {
+		final XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		return factory;
+	}
+
+	/**
+	 * Decode the given response
+	 *
+	 * @param response the response as received from the device
+	 * @param consumer receives all watched values of the response
+	 * @throws IOException if the response is not well formed
+	 */
+	public static void decode(final String response, final IWatchValueConsumer consumer) throws IOException {
+		if (null == response || response.isEmpty()) {
+			return;
+		}
+		try {
+			final XMLStreamReader reader = FACTORY.createXMLStreamReader(new StringReader(response));
+			try {
+				decode(reader, consumer);
+			} finally {
+				reader.close();
+			}
+		} catch (final XMLStreamException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	private static void decode(final XMLStreamReader reader, final IWatchValueConsumer consumer)
+			throws XMLStreamException {
+		String resource = null;
+		String fb = null;
+		String port = null;
+		while (reader.hasNext()) {
+			if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+				switch (reader.getLocalName()) {
+				case RESOURCE_ELEMENT -> resource = reader.getAttributeValue(null, NAME_ATTRIBUTE);
+				case FB_ELEMENT -> fb = reader.getAttributeValue(null, NAME_ATTRIBUTE);
+				case PORT_ELEMENT -> port = reader.getAttributeValue(null, NAME_ATTRIBUTE);
+				case DATA_ELEMENT -> consumer.accept(resource, fb, port, reader.getAttributeValue(null, VALUE_ATTRIBUTE),
+						reader.getAttributeValue(null, TIME_ATTRIBUTE),
+						reader.getAttributeValue(null, FORCED_ATTRIBUTE));
+				default -> {
+					// other elements do not carry watch values
+				}
+				}
+			}
+		}
+	}
+
+	private WatchesResponseDecoder() {
+		throw new UnsupportedOperationException("Utility class should not be instantiated!"); //$NON-NLS-1$
+	}
+}
@@ -12,6 +12,7 @@
  *  Alois Zoitl, Florian Noack, Gerhard Ebenhofer, Monika Wenger
  *  		- initial API and implementation and/or initial documentation
  *  Alois Zoitl - Harmonized deployment and monitoring communication
+ *   agent - batched sending of deployment commands
  *******************************************************************************/
 package org.eclipse.fordiac.ide.deployment.iec61499.executors;
 
@@ -19,10 +20,17 @@
 import java.io.IOException;
 import java.io.StringReader;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.xmi.XMLResource;
@@ -35,9 +43,11 @@
 import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
 import org.eclipse.fordiac.ide.deployment.iec61499.Messages;
 import org.eclipse.fordiac.ide.deployment.iec61499.ResponseMapping;
+import org.eclipse.fordiac.ide.deployment.iec61499.WatchesResponseDecoder;
 import org.eclipse.fordiac.ide.deployment.iec61499.handlers.EthernetDeviceManagementCommunicationHandler;
 import org.eclipse.fordiac.ide.deployment.interactors.AbstractDeviceManagementInteractor;
 import org.eclipse.fordiac.ide.deployment.interactors.ForteTypeNameCreator;
+import org.eclipse.fordiac.ide.deployment.interactors.IWatchValueConsumer;
 import org.eclipse.fordiac.ide.model.libraryElement.Device;
 import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
 import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
@@ -80,14 +90,20 @@ public class DeploymentExecutor extends AbstractDeviceManagementInteractor {
 	}
 
 	private final Set<String> genFBs = new HashSet<>();
-	private int id = 0;
+	private final AtomicInteger id = new AtomicInteger();
 
 	String getNextId() {
-		return Integer.toString(id++);
+		return Integer.toString(id.getAndIncrement());
 	}
 
 	private final ResponseMapping respMapping = new ResponseMapping();
 
+	private record BatchedRequest(CompletableFuture<String> response, Supplier<String> errorMessage) {
+	}
+
+	/* requests sent within the current batch, null if no batch is active */
+	private List<BatchedRequest> batch;
+
 	public DeploymentExecutor(final Device dev) {
 		this(dev, null);
 	}
@@ -109,6 +125,69 @@ protected IDeviceManagementCommunicationHandler createCommunicationHandler(final
 		return new EthernetDeviceManagementCommunicationHandler();
 	}
 
+	@Override
+	public void beginBatch() {
+		batch = new ArrayList<>();
+	}
+
+	@Override
+	public void endBatch() throws DeploymentException {
+		final List<BatchedRequest> requests = batch;
+		batch = null;
+		if (null == requests) {
+			return;
+		}
+		DeploymentException firstError = null;
+		for (final BatchedRequest request : requests) {
+			try {
+				request.response().join();
+			} catch (final CompletionException | CancellationException e) {
+				if (null == firstError) {
+					final Throwable cause = (e instanceof CompletionException) ? e.getCause() : e;
+					if (cause instanceof TimeoutException) {
+						firstError = new DeploymentException(MessageFormat
+								.format(Messages.DeploymentExecutor_BatchResponseTimeout, request.errorMessage().get()),
+								cause);
+					} else {
+						firstError = new DeploymentException(request.errorMessage().get(), cause);
+					}
+				}
+			}
+		}
+		if (null != firstError) {
+			throw firstError;
+		}
+	}
+
+	/**
+	 * Send a request whose response is not needed by the caller. Within a batch
+	 * the request is sent without waiting for its response.
+	 *
+	 * @param destination  the destination with in the device
+	 * @param request      the request to send
+	 * @param errorMessage provides the message for the exception thrown if the
+	 *                     request fails
+	 * @throws DeploymentException if the request failed
+	 */
+	protected void sendBatchableREQ(final String destination, final String request,
+			final Supplier<String> errorMessage) throws DeploymentException {
+		if (null != batch) {
+			final CompletableFuture<String> response = sendREQAsync(destination, request);
+			batch.add(new BatchedRequest(response, errorMessage));
+			if (response.isCompletedExceptionally()) {
+				// the communication handler could not send the request, don't continue with the
+				// batch
+				endBatch();
+			}
+			return;
+		}
+		try {
+			sendREQ(destination, request);
+		} catch (final IOException e) {
+			throw new DeploymentException(errorMessage.get(), e);
+		}
+	}
+
 	@Override
 	public void createResource(final Resource resource) throws DeploymentException {
 		final String request = MessageFormat.format(CREATE_RESOURCE_INSTANCE, getNextId(), resource.getName(),
@@ -130,12 +209,9 @@ public void writeResourceParameter(final Resource resource, final String paramet
 
 		final String encodedValue = encodeXMLChars(value);
 		final String request = generateWriteParamRequest(resource.getName(), parameter, encodedValue);
-		try {
-			sendREQ("", request); //$NON-NLS-1$
-		} catch (final IOException e) {
-			throw new DeploymentException(MessageFormat.format(Messages.DeploymentExecutor_WriteResourceParameterFailed,
-					resource.getName(), parameter), e);
-		}
+		sendBatchableREQ("", request, //$NON-NLS-1$
+				() -> MessageFormat.format(Messages.DeploymentExecutor_WriteResourceParameterFailed,
+						resource.getName(), parameter));
 	}
 
 	protected String generateWriteParamRequest(final String targetElementName, final String parameter,
@@ -166,13 +242,9 @@ public void writeFBParameter(final Resource resource, final String name, final S
 			throws DeploymentException {
 		final String encodedValue = encodeXMLChars(value);
 		final String request = generateWriteParamRequest(name, encodedValue);
-		try {
-			sendREQ(resource.getName(), request);
-		} catch (final IOException e) {
-			throw new DeploymentException(
-					MessageFormat.format(Messages.DeploymentExecutor_WriteFBParameterFailed, resource.getName(), name),
-					e);
-		}
+		sendBatchableREQ(resource.getName(), request,
+				() -> MessageFormat.format(Messages.DeploymentExecutor_WriteFBParameterFailed, resource.getName(),
+						name));
 	}
 
 	@Override
@@ -181,13 +253,9 @@ public void writeFBParameter(final Resource resource, final String value, final
 		final String encodedValue = encodeXMLChars(value);
 		final String request = generateWriteParamRequest(fbData.getPrefix() + fbData.getFb().getName(),
 				varDecl.getName(), encodedValue);
-		try {
-			sendREQ(resource.getName(), request);
-		} catch (final IOException e) {
-			throw new DeploymentException(MessageFormat.format(Messages.DeploymentExecutor_WriteFBParameterFailed,
-					resource.getName(), varDecl.getName()), e);
-		}
-
+		sendBatchableREQ(resource.getName(), request,
+				() -> MessageFormat.format(Messages.DeploymentExecutor_WriteFBParameterFailed, resource.getName(),
+						varDecl.getName()));
 	}
 
 	@Override
@@ -205,24 +273,16 @@ public void createConnection(final Resource resource, final ConnectionDeployment
 				connData.getSourcePrefix() + sourceFB.getName() + "." + source.getName(), //$NON-NLS-1$
 				connData.getDestinationPrefix() + destFB.getName() + "." + destination.getName()); //$NON-NLS-1$
 
-		try {
-			sendREQ(resource.getName(), request);
-		} catch (final IOException e) {
-			// TODO model refactoring - add here more information on what connection had the
-			// issue
-			throw new DeploymentException(Messages.DeploymentExecutor_CreateConnectionFailed, e);
-		}
+		// TODO model refactoring - add here more information on what connection had the
+		// issue
+		sendBatchableREQ(resource.getName(), request, () -> Messages.DeploymentExecutor_CreateConnectionFailed);
 	}
 
 	@Override
 	public void startResource(final Resource res) throws DeploymentException {
 		final String request = MessageFormat.format(START, Integer.valueOf(getNextId()));
-		try {
-			sendREQ(res.getName(), request);
-		} catch (final IOException e) {
-			throw new DeploymentException(
-					MessageFormat.format(Messages.DeploymentExecutor_StartingResourceFailed, res.getName()), e);
-		}
+		sendBatchableREQ(res.getName(), request,
+				() -> MessageFormat.format(Messages.DeploymentExecutor_StartingResourceFailed, res.getName()));
 	}
 
 	@Override
@@ -239,12 +299,8 @@ public void stopResource(final Resource res) throws DeploymentException {
 	@Override
 	public void startDevice(final Device dev) throws DeploymentException {
 		final String request = MessageFormat.format(START, Integer.valueOf(getNextId()));
-		try {
-			sendREQ("", request); //$NON-NLS-1$
-		} catch (final IOException e) {
-			throw new DeploymentException(
-					MessageFormat.format(Messages.DeploymentExecutor_StartingDeviceFailed, dev.getName()), e);
-		}
+		sendBatchableREQ("", request, //$NON-NLS-1$
+				() -> MessageFormat.format(Messages.DeploymentExecutor_StartingDeviceFailed, dev.getName()));
 	}
 
 	@Override
@@ -253,12 +309,9 @@ public void writeDeviceParameter(final Device device, final String parameter, fi
 		final String encodedValue = encodeXMLChars(value);
 		final String request = MessageFormat.format(getWriteParameterMessage(), Integer.valueOf(getNextId()),
 				encodedValue, parameter);
-		try {
-			sendREQ("", request); //$NON-NLS-1$
-		} catch (final IOException e) {
-			throw new DeploymentException(MessageFormat.format(Messages.DeploymentExecutor_WriteDeviceParameterFailed,
-					device.getName(), parameter), e);
-		}
+		sendBatchableREQ("", request, //$NON-NLS-1$
+				() -> MessageFormat.format(Messages.DeploymentExecutor_WriteDeviceParameterFailed, device.getName(),
+						parameter));
 	}
 
 	@Override
@@ -308,12 +361,8 @@ public void startFB(final Resource res, final FBDeploymentData fbData) throws De
 		final String fullFbInstanceName = fbData.getPrefix() + fbData.getFb().getName();
 		final String request = MessageFormat.format(START_FB, getNextId(), fullFbInstanceName,
 				fbData.getFb().getFullTypeName());
-		try {
-			sendREQ(res.getName(), request);
-		} catch (final IOException e) {
-			throw new DeploymentException(
-					MessageFormat.format(Messages.DeploymentExecutor_StartingFBFailed, fullFbInstanceName), e);
-		}
+		sendBatchableREQ(res.getName(), request,
+				() -> MessageFormat.format(Messages.DeploymentExecutor_StartingFBFailed, fullFbInstanceName));
 	}
 
 	@Override
@@ -325,12 +374,8 @@ public void createFBInstance(final FBDeploymentData fbData, final Resource res)
 					.format(Messages.DeploymentExecutor_CreateFBInstanceFailedNoTypeFound, fullFbInstanceName)));
 		}
 		final String request = MessageFormat.format(CREATE_FB_INSTANCE, getNextId(), fullFbInstanceName, fbType);
-		try {
-			sendREQ(res.getName(), request);
-		} catch (final IOException e) {
-			throw new DeploymentException(
-					MessageFormat.format(Messages.DeploymentExecutor_CreateFBInstanceFailed, fullFbInstanceName), e);
-		}
+		sendBatchableREQ(res.getName(), request,
+				() -> MessageFormat.format(Messages.DeploymentExecutor_CreateFBInstanceFailed, fullFbInstanceName));
 	}
 
 	@Override
@@ -395,6 +440,17 @@ public Response readWatches() throws DeploymentException {
 		}
 	}
 
+	@Override
+	public void readWatches(final IWatchValueConsumer consumer) throws DeploymentException {
+		final String request = MessageFormat.format(READ_WATCHES, getNextId());
+		try {
+			WatchesResponseDecoder.decode(sendREQ("", request), consumer); //$NON-NLS-1$
+		} catch (final IOException e) {
+			throw new DeploymentException(
+					MessageFormat.format(Messages.DeploymentExecutor_ReadWatchesFailed, getDevice().getName()), e);
+		}
+	}
+
 	@Override
 	public boolean addWatch(final Resource resource, final String name) throws DeploymentException {
 		final String request = MessageFormat.format(ADD_WATCH, getNextId(), name, "*"); //$NON-NLS-1$
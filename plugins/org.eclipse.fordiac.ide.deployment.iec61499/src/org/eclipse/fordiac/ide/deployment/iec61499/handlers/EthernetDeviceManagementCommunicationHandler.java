@@ -9,6 +9,7 @@
  * Contributors:
  *   Alois Zoitl, Florian Noack, Monika Wenger - initial API and implementation and/or initial documentation
  *   Alois Zoitl - Harmonized deployment and monitoring
+ *   agent - Pipelined requests and bulk response reading
  *******************************************************************************/
 package org.eclipse.fordiac.ide.deployment.iec61499.handlers;
 
@@ -17,12 +18,25 @@
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.fordiac.ide.deployment.IDeviceManagementCommunicationHandler;
 import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
@@ -39,6 +53,19 @@ public class EthernetDeviceManagementCommunicationHandler implements IDeviceMana
 	private static final int LOWER_INVALID_PORT = 1023;
 	private static final int UPPER_INVALID_PORT = 65536;
 	private static final long MS_SLEEP_IN_DISCONNECT = 50;
+	private static final int INITIAL_RESPONSE_BUFFER_SIZE = 1024;
+	private static final Pattern MESSAGE_ID = Pattern.compile("ID=\"([^\"]*)\""); //$NON-NLS-1$
+
+	/* reused for reading responses, only accessed by the thread reading responses */
+	private byte[] responseBuffer = new byte[INITIAL_RESPONSE_BUFFER_SIZE];
+	private final Object writeLock = new Object();
+	/*
+	 * requests sent in pipelined mode waiting for their response, keyed by request
+	 * ID and kept in sending order
+	 */
+	private final Map<String, CompletableFuture<String>> pendingResponses = new LinkedHashMap<>();
+	private Thread responseReader;
+	private int responseTimeout;
 
 	private static class MgrInformation {
 		private String iP;
@@ -63,9 +90,17 @@ public void connect(final String address) throws DeploymentException {
 		final SocketAddress sockaddr = new InetSocketAddress(mgrInfo.iP, mgrInfo.port);
 		try {
 			socket.connect(sockaddr, timeout); // 3s as timeout
-			socket.setSoTimeout(timeout);
 			outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
 			inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			responseTimeout = timeout;
+			if (HoloblocDeploymentPreferences.isPipelinedRequests()) {
+				// the reader waits for responses as long as the connection is open, timeouts
+				// are checked per request
+				socket.setSoTimeout(0);
+				startResponseReader();
+			} else {
+				socket.setSoTimeout(timeout);
+			}
 		} catch (final IOException e) {
 			throw new DeploymentException(Messages.EthernetDeviceManagementCommunicationHandler_CouldNotConnectToDevice,
 					e);
@@ -78,6 +113,7 @@ public void disconnect() throws DeploymentException {
 			outputStream.close();
 			inputStream.close();
 			socket.close();
+			responseReader = null;
 			Thread.sleep(MS_SLEEP_IN_DISCONNECT); // TODO check this sleep!
 		} catch (final IOException e) {
 			throw new DeploymentException(Messages.DeploymentExecutor_DisconnectFailed, e);
@@ -90,11 +126,66 @@ public void disconnect() throws DeploymentException {
 	private String handleResponse() throws IOException {
 		inputStream.readByte();
 		final int size = inputStream.readUnsignedShort();
-		final StringBuilder response = new StringBuilder(size);
-		for (int i = 0; i < size; i++) {
-			response.append((char) inputStream.readByte());
+		if (responseBuffer.length < size) {
+			responseBuffer = new byte[size];
+		}
+		inputStream.readFully(responseBuffer, 0, size);
+		return new String(responseBuffer, 0, size, StandardCharsets.ISO_8859_1);
+	}
+
+	private boolean isPipelined() {
+		return null != responseReader;
+	}
+
+	private void startResponseReader() {
+		responseReader = Thread.ofVirtual().name("4diac-IDE mgmt response reader " + mgrInfo) //$NON-NLS-1$
+				.start(this::readResponses);
+	}
+
+	private void readResponses() {
+		try {
+			while (isConnected()) {
+				completeResponse(handleResponse());
+			}
+			failPendingResponses(new SocketException(Messages.EthernetComHandler_ConnectionClosed));
+		} catch (final IOException e) {
+			failPendingResponses(e);
+		}
+	}
+
+	private void completeResponse(final String response) {
+		final CompletableFuture<String> pending;
+		synchronized (pendingResponses) {
+			final String responseId = getMessageId(response);
+			final CompletableFuture<String> matched = pendingResponses.remove(responseId);
+			if (null == matched && responseId.isEmpty() && !pendingResponses.isEmpty()) {
+				// response without ID, responses are sent in request order
+				final Iterator<CompletableFuture<String>> iter = pendingResponses.values().iterator();
+				pending = iter.next();
+				iter.remove();
+			} else {
+				pending = matched;
+			}
+		}
+		if (null != pending) {
+			pending.complete(response);
+		}
+	}
+
+	private void failPendingResponses(final IOException e) {
+		final CompletableFuture<?>[] pending;
+		synchronized (pendingResponses) {
+			pending = pendingResponses.values().toArray(new CompletableFuture<?>[0]);
+			pendingResponses.clear();
 		}
-		return response.toString();
+		for (final CompletableFuture<?> response : pending) {
+			response.completeExceptionally(e);
+		}
+	}
+
+	private static String getMessageId(final String message) {
+		final Matcher matcher = MESSAGE_ID.matcher(message);
+		return matcher.find() ? matcher.group(1) : ""; //$NON-NLS-1$
 	}
 
 	@Override
@@ -108,20 +199,109 @@ public String getInfo(final String destination) {
 
 	@Override
 	public String sendREQ(final String destination, final String request) throws IOException {
+		if (isPipelined()) {
+			return awaitResponse(sendREQAsync(destination, request), request);
+		}
 		String response = ""; //$NON-NLS-1$
 		if (outputStream != null && inputStream != null) {
-			outputStream.writeByte(ASN1_TAG_IECSTRING);
-			outputStream.writeShort(destination.length());
-			outputStream.writeBytes(destination);
-			outputStream.writeByte(ASN1_TAG_IECSTRING);
-			outputStream.writeShort(request.length());
-			outputStream.writeBytes(request);
-			outputStream.flush();
+			writeRequest(destination, request);
 			response = handleResponse();
 		}
 		return response;
 	}
 
+	@Override
+	public CompletableFuture<String> sendREQAsync(final String destination, final String request) {
+		if (!isPipelined()) {
+			return IDeviceManagementCommunicationHandler.super.sendREQAsync(destination, request);
+		}
+		final String requestId = getMessageId(request);
+		final CompletableFuture<String> response = new CompletableFuture<>();
+		synchronized (writeLock) {
+			try {
+				if (requestId.isEmpty() || isPending(requestId)) {
+					// the response could not be matched to this request, send it after all
+					// outstanding requests are answered
+					awaitPendingResponses(requestId);
+				}
+				synchronized (pendingResponses) {
+					pendingResponses.put(requestId, response);
+				}
+				response.orTimeout(responseTimeout, TimeUnit.MILLISECONDS).whenComplete((result, e) -> {
+					if (e instanceof TimeoutException) {
+						// a late response must not be matched to a later request
+						removePending(response);
+					}
+				});
+				writeRequest(destination, request);
+			} catch (final IOException e) {
+				removePending(response);
+				response.completeExceptionally(e);
+			}
+		}
+		return response;
+	}
+
+	private boolean isPending(final String requestId) {
+		synchronized (pendingResponses) {
+			return pendingResponses.containsKey(requestId);
+		}
+	}
+
+	private void removePending(final CompletableFuture<String> response) {
+		synchronized (pendingResponses) {
+			pendingResponses.values().remove(response);
+		}
+	}
+
+	private void awaitPendingResponses(final String requestId) throws IOException {
+		final CompletableFuture<?>[] pending;
+		synchronized (pendingResponses) {
+			pending = pendingResponses.values().toArray(new CompletableFuture<?>[0]);
+		}
+		try {
+			CompletableFuture.allOf(pending).get(responseTimeout, TimeUnit.MILLISECONDS);
+		} catch (final TimeoutException e) {
+			throw new SocketTimeoutException(MessageFormat.format(Messages.EthernetComHandler_PendingResponsesTimeout,
+					requestId, Integer.valueOf(responseTimeout)));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt(); // mark interruption
+			throw new InterruptedIOException(e.getMessage());
+		} catch (final ExecutionException e) {
+			// failed requests are answered as well, their callers get the failure
+		}
+	}
+
+	private void writeRequest(final String destination, final String request) throws IOException {
+		outputStream.writeByte(ASN1_TAG_IECSTRING);
+		outputStream.writeShort(destination.length());
+		outputStream.writeBytes(destination);
+		outputStream.writeByte(ASN1_TAG_IECSTRING);
+		outputStream.writeShort(request.length());
+		outputStream.writeBytes(request);
+		outputStream.flush();
+	}
+
+	private String awaitResponse(final CompletableFuture<String> response, final String request)
+			throws IOException {
+		try {
+			// the response times out on its own after the response timeout
+			return response.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt(); // mark interruption
+			throw new InterruptedIOException(e.getMessage());
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof TimeoutException) {
+				throw new SocketTimeoutException(MessageFormat.format(Messages.EthernetComHandler_ResponseTimeout,
+						getMessageId(request), Integer.valueOf(responseTimeout)));
+			}
+			if (e.getCause() instanceof final IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
 	/**
 	 * returns a valid MgrInformation if the mgrID contains valid destination string
 	 * (e.g. localhost:61499) else null is returned valid ports are between 1024 -
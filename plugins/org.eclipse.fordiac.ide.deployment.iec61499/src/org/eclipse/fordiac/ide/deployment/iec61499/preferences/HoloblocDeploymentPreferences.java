@@ -15,6 +15,7 @@
 
 import org.eclipse.fordiac.ide.deployment.iec61499.Activator;
 import org.eclipse.fordiac.ide.deployment.iec61499.Messages;
+import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.ui.IWorkbench;
@@ -31,6 +32,12 @@ public class HoloblocDeploymentPreferences extends FieldEditorPreferencePage imp
 	/* default conneciton timeout value in ms */
 	static final int CONNECTION_TIMEOUT_DEFAULT_VALUE = 3000;
 
+	/** The Constant PIPELINED_REQUESTS. */
+	static final String PIPELINED_REQUESTS = "Pipelined Requests"; //$NON-NLS-1$
+
+	/* per default requests are sent one at a time waiting for each response */
+	static final boolean PIPELINED_REQUESTS_DEFAULT_VALUE = false;
+
 	/*
 	 * check if there is a conneciton timeout value set and if not return the
 	 * default value
@@ -44,6 +51,14 @@ public static int getConnectionTimeout() {
 		return retVal;
 	}
 
+	/*
+	 * check if management requests may be sent to the device without waiting for
+	 * the response of the previous request
+	 */
+	public static boolean isPipelinedRequests() {
+		return Activator.getDefault().getPreferenceStore().getBoolean(HoloblocDeploymentPreferences.PIPELINED_REQUESTS);
+	}
+
 	/**
 	 * Instantiates a new holobloc deployment preferences.
 	 */
@@ -67,6 +82,9 @@ public void createFieldEditors() {
 
 		addField(integerFieldEditor);
 
+		addField(new BooleanFieldEditor(PIPELINED_REQUESTS, Messages.HoloblocDeploymentPreferences_PipelinedRequests,
+				getFieldEditorParent()));
+
 	}
 
 	/*
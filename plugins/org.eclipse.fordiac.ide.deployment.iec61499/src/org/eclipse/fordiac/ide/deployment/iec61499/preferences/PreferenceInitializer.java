@@ -27,6 +27,8 @@ public void initializeDefaultPreferences() {
 		IPreferenceStore store = Activator.getDefault().getPreferenceStore();
 		store.setDefault(HoloblocDeploymentPreferences.CONNECTION_TIMEOUT,
 				HoloblocDeploymentPreferences.CONNECTION_TIMEOUT_DEFAULT_VALUE);
+		store.setDefault(HoloblocDeploymentPreferences.PIPELINED_REQUESTS,
+				HoloblocDeploymentPreferences.PIPELINED_REQUESTS_DEFAULT_VALUE);
 
 	}
 
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.deployment;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.fordiac.ide.deployment.data.ConnectionDeploymentData;
+import org.eclipse.fordiac.ide.deployment.data.DeviceDeploymentData;
+import org.eclipse.fordiac.ide.deployment.data.FBDeploymentData;
+import org.eclipse.fordiac.ide.deployment.data.ResourceDeploymentData;
+import org.eclipse.fordiac.ide.deployment.data.ResourceDeploymentData.ParameterData;
+import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
+import org.eclipse.fordiac.ide.deployment.interactors.IDeviceManagementInteractor;
+import org.eclipse.fordiac.ide.deployment.util.DeploymentHelper;
+import org.eclipse.fordiac.ide.model.libraryElement.Device;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
+import org.eclipse.fordiac.ide.model.libraryElement.Resource;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+
+/**
+ * Dependency ordered list of the management commands needed for deploying one
+ * device.
+ *
+ * The commands of all resources of the device are grouped into phases. A phase
+ * only depends on the phases before it (e.g., connections need the FB instances
+ * and their parameters), therefore all commands of a phase are handed to the
+ * device management interactor as one batch. The time needed for each phase is
+ * reported as sub task of the progress monitor.
+ */
+public final class DeploymentPlan {
+
+	public enum Phase {
+		CREATE_RESOURCES, RESOURCE_PARAMETERS, CREATE_FBS, FB_PARAMETERS, CONNECTIONS, START_RESOURCES,
+		DEVICE_PARAMETERS
+	}
+
+	@FunctionalInterface
+	public interface DeploymentCommand {
+		void execute(IDeviceManagementInteractor executor) throws DeploymentException;
+	}
+
+	private final Device device;
+	private final Map<Phase, List<DeploymentCommand>> commands = new EnumMap<>(Phase.class);
+
+	private DeploymentPlan(final Device device) {
+		this.device = device;
+		for (final Phase phase : Phase.values()) {
+			commands.put(phase, new ArrayList<>());
+		}
+	}
+
+	/**
+	 * Create the deployment plan for the given device
+	 *
+	 * @param devData   the device data, used for the device parameters
+	 * @param resources the resources of the device that should be deployed
+	 * @return the plan for deploying the device
+	 * @throws DeploymentException if the value of a parameter is not valid
+	 */
+	public static DeploymentPlan create(final DeviceDeploymentData devData,
+			final List<ResourceDeploymentData> resources) throws DeploymentException {
+		final DeploymentPlan plan = new DeploymentPlan(devData.getDevice());
+		for (final ResourceDeploymentData resData : resources) {
+			if (!resData.getRes().isDeviceTypeResource()) {
+				plan.addResource(resData);
+			}
+		}
+		plan.addDeviceParameters(devData);
+		return plan;
+	}
+
+	public Device getDevice() {
+		return device;
+	}
+
+	/** @return the number of commands, the plan works the progress monitor by one for each */
+	public int getCommandCount() {
+		return commands.values().stream().mapToInt(List::size).sum();
+	}
+
+	/**
+	 * Execute the plan phase by phase.
+	 *
+	 * @param executor the interactor connected to the device
+	 * @param monitor  progress monitor, worked by one for each command
+	 * @throws DeploymentException  if a command could not be executed
+	 * @throws InterruptedException if the user canceled the deployment
+	 */
+	public void execute(final IDeviceManagementInteractor executor, final IProgressMonitor monitor)
+			throws DeploymentException, InterruptedException {
+		for (final Map.Entry<Phase, List<DeploymentCommand>> entry : commands.entrySet()) {
+			executePhase(executor, entry.getKey(), entry.getValue(), monitor);
+		}
+	}
+
+	private void executePhase(final IDeviceManagementInteractor executor, final Phase phase,
+			final List<DeploymentCommand> phaseCommands, final IProgressMonitor monitor)
+			throws DeploymentException, InterruptedException {
+		if (phaseCommands.isEmpty()) {
+			return;
+		}
+		final long start = System.nanoTime();
+		executor.beginBatch();
+		try {
+			for (final DeploymentCommand command : phaseCommands) {
+				if (monitor.isCanceled()) {
+					throw new InterruptedException(Messages.DeploymentCoordinator_LABEL_DownloadAborted);
+				}
+				command.execute(executor);
+				worked(monitor);
+			}
+		} finally {
+			// wait for all outstanding responses, reports the first failed command
+			executor.endBatch();
+		}
+		monitor.subTask(MessageFormat.format(Messages.DeploymentPlan_PhaseFinished, device.getName(), phase,
+				Integer.valueOf(phaseCommands.size()),
+				Long.valueOf(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))));
+	}
+
+	private static void worked(final IProgressMonitor monitor) {
+		// plans of several devices may report to the same monitor
+		synchronized (monitor) {
+			monitor.worked(1);
+		}
+	}
+
+	private void addResource(final ResourceDeploymentData resDepData) throws DeploymentException {
+		final Resource res = resDepData.getRes();
+		add(Phase.CREATE_RESOURCES, executor -> executor.createResource(res));
+		for (final VarDeclaration varDecl : res.getVarDeclarations()) {
+			final String val = DeploymentHelper.getVariableValue(varDecl);
+			if (null != val) {
+				add(Phase.RESOURCE_PARAMETERS, executor -> executor.writeResourceParameter(res, varDecl.getName(), val));
+			}
+		}
+		for (final FBDeploymentData fbDepData : resDepData.getFbs()) {
+			if (fbDepData.getFb() instanceof final FB fb && !fb.isResourceTypeFB()) {
+				addFB(res, fbDepData);
+			}
+		}
+		// subapp parameters need to be written after the FB parameters and before the
+		// connections are created
+		for (final ParameterData param : resDepData.getParams()) {
+			final FBDeploymentData fbDepData = new FBDeploymentData(param.getPrefix(),
+					param.getVar().getFBNetworkElement());
+			add(Phase.FB_PARAMETERS,
+					executor -> executor.writeFBParameter(res, param.getValue(), fbDepData, param.getVar()));
+		}
+		for (final ConnectionDeploymentData con : resDepData.getConnections()) {
+			add(Phase.CONNECTIONS, executor -> executor.createConnection(res, con));
+		}
+		add(Phase.START_RESOURCES, executor -> executor.startResource(res));
+	}
+
+	private void addFB(final Resource res, final FBDeploymentData fbDepData) throws DeploymentException {
+		add(Phase.CREATE_FBS, executor -> executor.createFBInstance(fbDepData, res));
+		final InterfaceList interfaceList = fbDepData.getFb().getInterface();
+		if (interfaceList != null) {
+			for (final VarDeclaration varDecl : interfaceList.getInputVars()) {
+				final String val = DeploymentHelper.getVariableValue(varDecl);
+				if (null != val) {
+					add(Phase.FB_PARAMETERS, executor -> executor.writeFBParameter(res, val, fbDepData, varDecl));
+				}
+			}
+		}
+	}
+
+	private void addDeviceParameters(final DeviceDeploymentData devData) throws DeploymentException {
+		if (!devData.getSelectedDevParams().isEmpty()) {
+			for (final VarDeclaration devVar : devData.getSelectedDevParams()) {
+				final String value = DeploymentHelper.getVariableValue(devVar);
+				if (null != value) {
+					add(Phase.DEVICE_PARAMETERS,
+							executor -> executor.writeDeviceParameter(device, devVar.getName(), value));
+				}
+			}
+			// we have device parameters send start to the device so that they are applied
+			add(Phase.DEVICE_PARAMETERS, executor -> executor.startDevice(device));
+		}
+	}
+
+	private void add(final Phase phase, final DeploymentCommand command) {
+		commands.get(phase).add(command);
+	}
+
+}
@@ -14,25 +14,29 @@
  *   Alois Zoitl - reworked deployment to detect if monitoring was enabled
  *               - added message dialog informing about error responses from
  *                 devices
+ *   agent - deployment plans and concurrent deployment of devices
  *******************************************************************************/
 package org.eclipse.fordiac.ide.deployment;
 
 import java.lang.reflect.InvocationTargetException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.fordiac.ide.deployment.data.ConnectionDeploymentData;
 import org.eclipse.fordiac.ide.deployment.data.DeviceDeploymentData;
-import org.eclipse.fordiac.ide.deployment.data.FBDeploymentData;
 import org.eclipse.fordiac.ide.deployment.data.ResourceDeploymentData;
-import org.eclipse.fordiac.ide.deployment.data.ResourceDeploymentData.ParameterData;
 import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
 import org.eclipse.fordiac.ide.deployment.interactors.DeviceManagementInteractorFactory;
 import org.eclipse.fordiac.ide.deployment.interactors.IDeviceManagementInteractor;
@@ -42,10 +46,7 @@
 import org.eclipse.fordiac.ide.deployment.util.IDeploymentListener;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
 import org.eclipse.fordiac.ide.model.libraryElement.Device;
-import org.eclipse.fordiac.ide.model.libraryElement.FB;
-import org.eclipse.fordiac.ide.model.libraryElement.InterfaceList;
 import org.eclipse.fordiac.ide.model.libraryElement.Resource;
-import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.swt.SWT;
@@ -59,13 +60,13 @@ public class DownloadRunnable implements IRunnableWithProgress, IDeploymentListe
 	private final IDeploymentListener outputView;
 	private final String profile;
 	private IProgressMonitor curMonitor;
-	private IStatus result = Status.OK_STATUS;
+	private volatile IStatus result = Status.OK_STATUS;
 
 	/**
 	 * flag indicating if an existing resource should automatically be overriden or
 	 * if the user should be asked
 	 */
-	private boolean overrideAll = false;
+	private volatile boolean overrideAll = false;
 
 	/**
 	 * set of automation systems where monitoring was active during deployment.
@@ -109,26 +110,67 @@ public void run(final IProgressMonitor monitor) throws InvocationTargetException
 		monitor.beginTask(Messages.DeploymentCoordinator_LABEL_PerformingDownload, calculateWorkAmount());
 
 		for (final DeviceDeploymentData devData : deploymentData) {
-			if (monitor.isCanceled()) {
-				throw new InterruptedException(Messages.DeploymentCoordinator_LABEL_DownloadAborted);
+			checkMonitoring(devData.getDevice().getAutomationSystem());
+		}
+		if (null == overrideDevMgmCommHandler && deploymentData.size() > 1) {
+			// each device gets its own connection, so devices can be deployed independently
+			deployDevicesConcurrently();
+		} else {
+			for (final DeviceDeploymentData devData : deploymentData) {
+				checkCanceled();
+				deployDevice(devData);
 			}
-			deployDevice(devData);
 		}
 		reenableMonitoring();
 		monitor.done();
 	}
 
-	private void deployDevice(final DeviceDeploymentData devData)
+	private void deployDevicesConcurrently() throws InvocationTargetException, InterruptedException {
+		final List<Callable<Void>> tasks = new ArrayList<>();
+		for (final DeviceDeploymentData devData : deploymentData) {
+			tasks.add(() -> {
+				checkCanceled();
+				deployDevice(devData);
+				return null;
+			});
+		}
+		try (ExecutorService devicePool = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (final Future<Void> deployment : devicePool.invokeAll(tasks)) {
+				waitForDeployment(deployment);
+			}
+		}
+	}
+
+	private static void waitForDeployment(final Future<Void> deployment)
 			throws InvocationTargetException, InterruptedException {
+		try {
+			deployment.get();
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof final InterruptedException interrupted) {
+				throw interrupted;
+			}
+			if (e.getCause() instanceof final InvocationTargetException invocationTarget) {
+				throw invocationTarget;
+			}
+			throw new InvocationTargetException(e.getCause());
+		}
+	}
+
+	private void checkCanceled() throws InterruptedException {
+		if (curMonitor.isCanceled()) {
+			throw new InterruptedException(Messages.DeploymentCoordinator_LABEL_DownloadAborted);
+		}
+	}
+
+	private void deployDevice(final DeviceDeploymentData devData) throws InterruptedException {
 		final IDeviceManagementInteractor executor = DeviceManagementInteractorFactory.INSTANCE
 				.getDeviceManagementInteractor(devData.getDevice(), overrideDevMgmCommHandler, profile);
 		if (executor != null) {
-			checkMonitoring(devData.getDevice().getAutomationSystem());
 			addDeploymentListener(executor);
 			try (IDeviceManagementInteractorCloser closer = executor::disconnect) {
 				executor.connect();
-				deployResources(devData, executor);
-				deployDeviceData(devData, executor);
+				final DeploymentPlan plan = DeploymentPlan.create(devData, checkResources(devData, executor));
+				plan.execute(executor, curMonitor);
 			} catch (final DeploymentException e) {
 				handleDeploymentException(devData.getDevice(), e);
 			} finally {
@@ -140,20 +182,20 @@ private void deployDevice(final DeviceDeploymentData devData)
 		}
 	}
 
-	private void deployResources(final DeviceDeploymentData devData, final IDeviceManagementInteractor executor)
-			throws InterruptedException, DeploymentException {
+	private List<ResourceDeploymentData> checkResources(final DeviceDeploymentData devData,
+			final IDeviceManagementInteractor executor) throws InterruptedException, DeploymentException {
 		final Set<String> resources = executor.queryResources().stream()
 				.map(org.eclipse.fordiac.ide.deployment.devResponse.Resource::getName).collect(Collectors.toSet());
 
+		final List<ResourceDeploymentData> toDeploy = new ArrayList<>();
 		for (final ResourceDeploymentData resData : devData.getResData()) {
-			if (curMonitor.isCanceled()) {
-				throw new InterruptedException(Messages.DeploymentCoordinator_LABEL_DownloadAborted);
-			}
+			checkCanceled();
 			if (checkResource(resData.getRes(), resources, executor)) {
 				// the resource is ready for deployment
-				deployResource(resData, executor);
+				toDeploy.add(resData);
 			}
 		}
+		return toDeploy;
 	}
 
 	/**
@@ -184,22 +226,6 @@ private boolean checkResource(final Resource res, final Set<String> resourceName
 		return true;
 	}
 
-	private void deployDeviceData(final DeviceDeploymentData devData, final IDeviceManagementInteractor executor)
-			throws DeploymentException {
-		if (!devData.getSelectedDevParams().isEmpty()) {
-			final Device device = devData.getDevice();
-			for (final VarDeclaration devVar : devData.getSelectedDevParams()) {
-				final String value = DeploymentHelper.getVariableValue(devVar);
-				if (null != value) {
-					executor.writeDeviceParameter(device, devVar.getName(), value);
-				}
-				curMonitor.worked(1);
-			}
-			// we have device parameters send start to the device so that
-			executor.startDevice(device);
-		}
-	}
-
 	private void addDeploymentListener(final IDeviceManagementInteractor executor) {
 		if (null != outputView) {
 			executor.addDeploymentListener(outputView);
@@ -215,92 +241,19 @@ private void removeDeploymentListener(final IDeviceManagementInteractor executor
 	}
 
 	private int calculateWorkAmount() {
-		int retVal = deploymentData.size();
-
-		for (final DeviceDeploymentData devData : deploymentData) {
-			retVal += devData.getSelectedDevParams().size();
-			retVal += devData.getResData().size();
-			for (final ResourceDeploymentData resDepData : devData.getResData()) {
-				retVal += countResourceParams(resDepData.getRes());
-				retVal += resDepData.getFbs().size() + resDepData.getConnections().size()
-						+ resDepData.getParams().size();
-				// TODO count variables of Fbs
-			}
-		}
-		return retVal;
-	}
-
-	private static int countResourceParams(final Resource res) {
+		// the plans work the monitor for each command, resources the user does not
+		// want to override are not deployed and leave their work undone
 		int work = 0;
-		for (final VarDeclaration varDecl : res.getVarDeclarations()) {
-			if ((varDecl.getValue() != null) && (!varDecl.getValue().getValue().isEmpty())) {
-				work++;
+		for (final DeviceDeploymentData devData : deploymentData) {
+			try {
+				work += DeploymentPlan.create(devData, devData.getResData()).getCommandCount();
+			} catch (final DeploymentException e) {
+				// reported when the device is deployed
 			}
 		}
 		return work;
 	}
 
-	protected void deployResource(final ResourceDeploymentData resDepData, final IDeviceManagementInteractor executor)
-			throws DeploymentException {
-		final Resource res = resDepData.getRes();
-		if (!res.isDeviceTypeResource()) {
-			executor.createResource(res);
-			curMonitor.worked(1);
-			for (final VarDeclaration varDecl : res.getVarDeclarations()) {
-				final String val = DeploymentHelper.getVariableValue(varDecl);
-				if (null != val) {
-					executor.writeResourceParameter(res, varDecl.getName(), val);
-					curMonitor.worked(1);
-				}
-			}
-			createFBInstance(resDepData, executor);
-			deployParamters(resDepData, executor); // this needs to be done before the connections are created
-			deployConnections(resDepData, executor);
-			executor.startResource(res);
-		}
-	}
-
-	private void deployParamters(final ResourceDeploymentData resDepData, final IDeviceManagementInteractor executor)
-			throws DeploymentException {
-		for (final ParameterData param : resDepData.getParams()) {
-			executor.writeFBParameter(resDepData.getRes(), param.getValue(),
-					new FBDeploymentData(param.getPrefix(), param.getVar().getFBNetworkElement()), param.getVar());
-			curMonitor.worked(1);
-		}
-	}
-
-	private void deployConnections(final ResourceDeploymentData resDepData, final IDeviceManagementInteractor executor)
-			throws DeploymentException {
-		for (final ConnectionDeploymentData con : resDepData.getConnections()) {
-			executor.createConnection(resDepData.getRes(), con);
-			curMonitor.worked(1);
-			if (curMonitor.isCanceled()) {
-				break;
-			}
-		}
-	}
-
-	private void createFBInstance(final ResourceDeploymentData resDepData, final IDeviceManagementInteractor executor)
-			throws DeploymentException {
-		final Resource res = resDepData.getRes();
-		for (final FBDeploymentData fbDepData : resDepData.getFbs()) {
-			if (fbDepData.getFb() instanceof FB && !((FB) fbDepData.getFb()).isResourceTypeFB()) {
-				executor.createFBInstance(fbDepData, res);
-				curMonitor.worked(1);
-				final InterfaceList interfaceList = fbDepData.getFb().getInterface();
-				if (interfaceList != null) {
-					for (final VarDeclaration varDecl : interfaceList.getInputVars()) {
-						final String val = DeploymentHelper.getVariableValue(varDecl);
-						if (null != val) {
-							executor.writeFBParameter(res, val, fbDepData, varDecl);
-							curMonitor.worked(1);
-						}
-					}
-				}
-			}
-		}
-	}
-
 	private void checkMonitoring(final AutomationSystem automationSystem)
 			throws InvocationTargetException, InterruptedException {
 		if (!monitoredSystems.contains(automationSystem)) {
@@ -319,7 +272,7 @@ private void reenableMonitoring() throws InvocationTargetException, InterruptedE
 		}
 	}
 
-	private boolean askOverrideForResource(final Resource res) throws InterruptedException {
+	private synchronized boolean askOverrideForResource(final Resource res) throws InterruptedException {
 		final AtomicInteger result = new AtomicInteger();
 		Display.getDefault().syncExec(() -> {
 			final Shell shell = Display.getDefault().getActiveShell();
@@ -389,7 +342,7 @@ public void postCommandSent(final String info, final String destination, final S
 	}
 
 	@Override
-	public void postResponseReceived(final String response, final String source) {
+	public synchronized void postResponseReceived(final String response, final String source) {
 		if (response.contains("Reason") && result.isOK()) { //$NON-NLS-1$
 			result = Status.error(Messages.DownloadRunnable_DeploymentErrorWarningMessage);
 		}
@@ -400,7 +353,7 @@ public void connectionClosed(final Device dev) {
 		// we don't need to do anything on connection closed
 	}
 
-	private void handleDeploymentException(final Device device, final DeploymentException e) {
+	private synchronized void handleDeploymentException(final Device device, final DeploymentException e) {
 		result = Status.error(MessageFormat.format(Messages.DownloadRunnable_DownloadErrorDetails, device.getName(),
 				DeploymentHelper.getMgrIDSafe(device), e.getMessage()), e);
 	}
@@ -13,6 +13,7 @@
 package org.eclipse.fordiac.ide.deployment;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
 import org.eclipse.swt.SWT;
@@ -48,6 +49,27 @@ public interface IDeviceManagementCommunicationHandler {
 	 */
 	String sendREQ(final String destination, final String request) throws IOException;
 
+	/**
+	 * Send a request to the device without waiting for the response
+	 *
+	 * Handlers supporting request pipelining return as soon as the request has
+	 * been written and complete the returned future once the matching response
+	 * arrived. The default implementation falls back to {@link #sendREQ(String,
+	 * String)}.
+	 *
+	 * @param destination the destination with in the device - null ... the device -
+	 *                    not null ... the name of a resource
+	 * @param request     the request to send
+	 * @return a future providing the response received from the device
+	 */
+	default CompletableFuture<String> sendREQAsync(final String destination, final String request) {
+		try {
+			return CompletableFuture.completedFuture(sendREQ(destination, request));
+		} catch (final IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	static void showErrorMessage(String message, Shell shell) {
 		MessageBox msgBox = new MessageBox(shell, SWT.OK | SWT.ICON_ERROR);
 		msgBox.setMessage(message);
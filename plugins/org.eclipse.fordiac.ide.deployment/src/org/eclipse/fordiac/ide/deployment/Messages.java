@@ -10,6 +10,7 @@
  * Contributors:
  *   Gerhard Ebenhofer, Alois Zoitl
  *     - initial API and implementation and/or initial documentation
+ *   agent - message for the deployment phase timings
  *******************************************************************************/
 package org.eclipse.fordiac.ide.deployment;
 
@@ -72,6 +73,8 @@ public final class Messages extends NLS {
 
 	public static String DownloadRunnable_DeploymentErrorWarningMessage;
 
+	public static String DeploymentPlan_PhaseFinished;
+
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
@@ -13,10 +13,11 @@
 package org.eclipse.fordiac.ide.deployment.interactors;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.fordiac.ide.deployment.IDeviceManagementCommunicationHandler;
 import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
@@ -32,7 +33,7 @@ public abstract class AbstractDeviceManagementInteractor implements IDeviceManag
 	private Set<String> fbTypes = Collections.emptySet();
 	private Set<String> adapterTypes = Collections.emptySet();
 
-	private final List<IDeploymentListener> listeners = new ArrayList<>();
+	private final List<IDeploymentListener> listeners = new CopyOnWriteArrayList<>();
 
 	@Override
 	public boolean isConnected() {
@@ -58,9 +59,41 @@ public void disconnect() throws DeploymentException {
 	public synchronized String sendREQ(final String destination, final String request) throws IOException {
 		final String info = commHandler.getInfo(destination);
 		final String response = commHandler.sendREQ(destination, request);
+		notifyCommandSent(info, destination, request);
+		notifyResponseReceived(info, destination, request, response);
+		return response;
+	}
+
+	/**
+	 * Send a request without waiting for its response. If the communication
+	 * handler supports pipelining several requests may be outstanding at the same
+	 * time, the responses are matched to the requests by the handler.
+	 *
+	 * @param destination the destination with in the device
+	 * @param request     the request to send
+	 * @return a future providing the response received from the device
+	 */
+	public CompletableFuture<String> sendREQAsync(final String destination, final String request) {
+		final String info = commHandler.getInfo(destination);
+		final CompletableFuture<String> response;
+		synchronized (this) {
+			response = commHandler.sendREQAsync(destination, request);
+			notifyCommandSent(info, destination, request);
+		}
+		return response.thenApply(resp -> {
+			notifyResponseReceived(info, destination, request, resp);
+			return resp;
+		});
+	}
+
+	private void notifyCommandSent(final String info, final String destination, final String request) {
 		for (final IDeploymentListener listener : listeners) {
 			listener.postCommandSent(info, destination, request); // do something with info
 		}
+	}
+
+	private void notifyResponseReceived(final String info, final String destination, final String request,
+			final String response) {
 		if (0 != response.length()) {
 			for (final IDeploymentListener listener : listeners) {
 				if (listener instanceof final IDeploymentListener2 listener2) {
@@ -70,7 +103,6 @@ public synchronized String sendREQ(final String destination, final String reques
 				}
 			}
 		}
-		return response;
 	}
 
 	@Override
@@ -164,6 +164,14 @@ public Response readWatches() throws DeploymentException {
 		return unwrap(readWatchesAsync());
 	}
 
+	@Override
+	public void readWatches(final IWatchValueConsumer consumer) throws DeploymentException {
+		unwrap(executorService.submit(() -> {
+			delegate.readWatches(consumer);
+			return null;
+		}));
+	}
+
 	@Override
 	public boolean addWatch(final Resource resource, final String name) throws DeploymentException {
 		return unwrap(addWatchAsync(resource, name)).booleanValue();
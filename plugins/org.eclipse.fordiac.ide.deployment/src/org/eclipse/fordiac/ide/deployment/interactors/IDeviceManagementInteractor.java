@@ -21,6 +21,9 @@
 
 import org.eclipse.fordiac.ide.deployment.data.ConnectionDeploymentData;
 import org.eclipse.fordiac.ide.deployment.data.FBDeploymentData;
+import org.eclipse.fordiac.ide.deployment.devResponse.Data;
+import org.eclipse.fordiac.ide.deployment.devResponse.FB;
+import org.eclipse.fordiac.ide.deployment.devResponse.Port;
 import org.eclipse.fordiac.ide.deployment.devResponse.Response;
 import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
 import org.eclipse.fordiac.ide.deployment.monitoringbase.MonitoringBaseElement;
@@ -64,6 +67,27 @@ interface IDeviceManagementInteractorCloser extends AutoCloseable {
 
 	void removeDeploymentListener(final IDeploymentListener listener);
 
+	/**
+	 * Start a batch of management commands.
+	 *
+	 * Until {@link #endBatch()} is called the interactor may send commands without
+	 * waiting for their responses. Errors of such commands are reported latest by
+	 * {@link #endBatch()}. The default implementation executes each command
+	 * immediately.
+	 */
+	default void beginBatch() {
+		// per default commands are executed one by one
+	}
+
+	/**
+	 * Wait until all commands of the current batch are finished.
+	 *
+	 * @throws DeploymentException for the first command of the batch that failed
+	 */
+	default void endBatch() throws DeploymentException {
+		// per default commands are executed one by one
+	}
+
 	/*** Management Commands ***/
 
 	/**
@@ -265,6 +289,32 @@ void writeFBParameter(Resource resource, String value, FBDeploymentData fb, VarD
 	 */
 	Response readWatches() throws DeploymentException;
 
+	/**
+	 * Read watches from device and hand each watched value to the given consumer
+	 *
+	 * Interactors should override this method if they can decode the response
+	 * without creating a {@link Response} model for each poll.
+	 *
+	 * @param consumer receives the watched values
+	 * @throws DeploymentException if an error occurred
+	 */
+	default void readWatches(final IWatchValueConsumer consumer) throws DeploymentException {
+		final Response response = readWatches();
+		if (null != response && null != response.getWatches()) {
+			for (final org.eclipse.fordiac.ide.deployment.devResponse.Resource res : response.getWatches()
+					.getResources()) {
+				for (final FB fb : res.getFbs()) {
+					for (final Port port : fb.getPorts()) {
+						for (final Data data : port.getDataValues()) {
+							consumer.accept(res.getName(), fb.getName(), port.getName(), data.getValue(),
+									data.getTime(), data.getForced());
+						}
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Add a watch
 	 *
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.deployment.interactors;
+
+/**
+ * Receives the watch values of a read watches response one by one, without the
+ * need to build up a complete response model.
+ *
+ * @see IDeviceManagementInteractor#readWatches(IWatchValueConsumer)
+ */
+@FunctionalInterface
+public interface IWatchValueConsumer {
+
+	/**
+	 * Called for each watched value contained in the response
+	 *
+	 * @param resource the name of the resource containing the FB
+	 * @param fb       the name of the FB
+	 * @param port     the name of the watched port
+	 * @param value    the current value of the port
+	 * @param time     the time stamp of the value as reported by the device, may
+	 *                 be null
+	 * @param forced   the forced flag as reported by the device, may be null
+	 */
+	void accept(String resource, String fb, String port, String value, String time, String forced);
+
+}
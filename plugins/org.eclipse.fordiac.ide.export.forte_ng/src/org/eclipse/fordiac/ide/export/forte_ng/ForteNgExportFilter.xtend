@@ -12,6 +12,7 @@
  *                - added support for custom language templates
  *   Alois Zoitl  - added support for structured types
  *   Ernst Blecha - added support for exporting CMakeLists.txt
+ *   agent        - export options as part of the generation cache fingerprint
  *******************************************************************************/
 package org.eclipse.fordiac.ide.export.forte_ng
 
@@ -35,6 +36,7 @@
 import org.eclipse.fordiac.ide.export.forte_ng.simple.SimpleFBImplTemplate
 import org.eclipse.fordiac.ide.export.forte_ng.struct.StructuredTypeHeaderTemplate
 import org.eclipse.fordiac.ide.export.forte_ng.struct.StructuredTypeImplTemplate
+import org.eclipse.fordiac.ide.export.forte_ng.util.ForteNgExportOptions
 import org.eclipse.fordiac.ide.export.language.ILanguageSupportFactory
 import org.eclipse.fordiac.ide.model.data.StructuredType
 import org.eclipse.fordiac.ide.model.libraryElement.AdapterType
@@ -60,6 +62,10 @@ class ForteNgExportFilter extends TemplateExportFilter {
 	public static final String OPTION_TYPE_SPEC = "type_spec"
 	public static final String OPTION_HEADER = "header"
 
+	override protected getGenerationOptions() {
+		"systemIncludes=" + ForteNgExportOptions.useSystemIncludes
+	}
+
 	override protected getTemplates(String name, EObject source) {
 		switch (source) {
 			BasicFBType:
@@ -15,12 +15,15 @@
  *   Alois Zoitl - Extract export process into own class for better code
  *                 readability and addressing several sonar issues
  *   Ernst Blecha - Add "Overwrite All" and "Cancel All"
+ *   agent - generate the files of template based exports in parallel
  *******************************************************************************/
 package org.eclipse.fordiac.ide.export.ui.wizard;
 
 import java.lang.reflect.InvocationTargetException;
 import java.text.MessageFormat;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -30,6 +33,8 @@
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.fordiac.ide.export.ExportException;
 import org.eclipse.fordiac.ide.export.IExportFilter;
+import org.eclipse.fordiac.ide.export.TemplateExportFilter;
+import org.eclipse.fordiac.ide.export.TemplateExportFilter.PreparedExport;
 import org.eclipse.fordiac.ide.export.ui.Messages;
 import org.eclipse.fordiac.ide.model.libraryElement.INamedElement;
 import org.eclipse.fordiac.ide.model.typelibrary.CMakeListsMarker;
@@ -120,7 +125,14 @@ private final List<IFile> collectExportees() {
 
 	private static class Exporter implements IRunnableWithProgress {
 
+		/**
+		 * number of types prepared in parallel before they are written, limits the
+		 * generated files held in memory
+		 */
+		private static final int PREPARE_BATCH_SIZE = 4 * Runtime.getRuntime().availableProcessors();
+
 		private final List<IFile> exportees;
+		private final Map<IFile, PreparedExport> preparedExports = new HashMap<>();
 		private final String outputDirectory;
 		private final IConfigurationElement conf;
 		private boolean overwriteWithoutWarning;
@@ -142,11 +154,15 @@ public void run(final IProgressMonitor monitor) throws InvocationTargetException
 
 			final IExportFilter filter = createExportFilter();
 			if (null != filter) {
-				for (final IFile file : exportees) {
+				for (int i = 0; i < exportees.size(); i++) {
+					final IFile file = exportees.get(i);
 
 					if (monitor.isCanceled()) {
 						break;
 					}
+					if (i % PREPARE_BATCH_SIZE == 0) {
+						prepareExports(filter, i);
+					}
 					try {
 						exportElement(monitor, filter, file, null);
 					} catch (final ExportException.OverwriteAll e) {
@@ -192,7 +208,12 @@ private void exportElement(final IProgressMonitor monitor, final IExportFilter f
 					}
 
 					monitor.subTask(MessageFormat.format(Messages.FordiacExportWizard_ExportingType, name));
-					filter.export(file, outputDirectory, overwriteWithoutWarning, source);
+					final PreparedExport prepared = preparedExports.remove(file);
+					if (prepared != null && filter instanceof final TemplateExportFilter templateFilter) {
+						templateFilter.write(prepared, overwriteWithoutWarning);
+					} else {
+						filter.export(file, outputDirectory, overwriteWithoutWarning, source);
+					}
 				}
 			} catch (final ExportException.UserInteraction e) {
 				throw (e);
@@ -204,6 +225,20 @@ private void exportElement(final IProgressMonitor monitor, final IExportFilter f
 			}
 		}
 
+		/**
+		 * Generate the files of the next batch of exportees in parallel. Only writing
+		 * the files, which may need user interaction, is done one type after the
+		 * other.
+		 */
+		private void prepareExports(final IExportFilter filter, final int start) {
+			preparedExports.clear();
+			if (filter instanceof final TemplateExportFilter templateFilter) {
+				exportees.subList(start, Math.min(start + PREPARE_BATCH_SIZE, exportees.size())).parallelStream()
+						.map(file -> templateFilter.prepare(file, outputDirectory, null)).toList()
+						.forEach(prepared -> preparedExports.put(prepared.getTypeFile(), prepared));
+			}
+		}
+
 		private IExportFilter createExportFilter() {
 			IExportFilter filter = null;
 			try {
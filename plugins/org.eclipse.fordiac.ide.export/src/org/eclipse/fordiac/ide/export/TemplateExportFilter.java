@@ -20,12 +20,16 @@
  *   Ernst Blecha
  *     - improved error handling and handling of forceOverwrite
  *     - Add "Overwrite All" and "Cancel All"
+ *   agent
+ *     - split export into thread safe preparation and writing of the files
+ *     - skip the generation of unchanged types using a generation cache
  *******************************************************************************/
 package org.eclipse.fordiac.ide.export;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -40,6 +44,8 @@
 import org.eclipse.fordiac.ide.export.utils.CompareEditorOpenerUtil;
 import org.eclipse.fordiac.ide.export.utils.DelayedFiles;
 import org.eclipse.fordiac.ide.export.utils.DelayedFiles.StoredFiles;
+import org.eclipse.fordiac.ide.export.utils.GenerationCache;
+import org.eclipse.fordiac.ide.export.utils.GenerationCache.OutputFile;
 import org.eclipse.fordiac.ide.model.libraryElement.INamedElement;
 import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryManager;
 import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
@@ -47,6 +53,8 @@
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.swt.widgets.Display;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 public abstract class TemplateExportFilter extends ExportFilter {
 
@@ -69,6 +77,43 @@ public abstract class TemplateExportFilter extends ExportFilter {
 	private static final int BUTTON_CANCEL_ALL = Arrays.asList(BUTTON_LABELS)
 			.indexOf(Messages.TemplateExportFilter_CANCEL_ALL_LABEL_STRING);
 
+	/**
+	 * The generated but not yet written files of a type together with the
+	 * messages of their generation.
+	 *
+	 * @see TemplateExportFilter#prepare(IFile, String, EObject)
+	 */
+	public static final class PreparedExport {
+		private final IFile typeFile;
+		private String name = "anonymous"; //$NON-NLS-1$
+		private DelayedFiles files;
+		private final List<String> errors = new ArrayList<>();
+		private final List<String> warnings = new ArrayList<>();
+		private final List<String> infos = new ArrayList<>();
+		private final List<Path> outputs = new ArrayList<>();
+		private GenerationCache generationCache;
+		private String cacheKey;
+		private String fingerprint;
+
+		private PreparedExport(final IFile typeFile) {
+			this.typeFile = typeFile;
+		}
+
+		public IFile getTypeFile() {
+			return typeFile;
+		}
+
+		public boolean hasErrors() {
+			return !errors.isEmpty();
+		}
+	}
+
+	/** the prepared export of the type currently generated by a thread */
+	private final ThreadLocal<PreparedExport> preparing = new ThreadLocal<>();
+
+	private final String exporterVersion = getBundleVersion(getClass()) + '/'
+			+ getBundleVersion(TemplateExportFilter.class);
+
 	protected TemplateExportFilter() {
 	}
 
@@ -106,14 +151,38 @@ private static String stringsToTextualList(final List<String> list) {
 	}
 
 	@Override
-	public void export(final IFile typeFile, final String destination, final boolean forceOverwrite, EObject source)
-			throws ExportException.UserInteraction {
-		if (source == null && typeFile != null && TypeLibraryManager.INSTANCE.getTypeEntryForFile(typeFile) == null) {
-			getWarnings().add(MessageFormat.format(Messages.TemplateExportFilter_PREFIX_ERRORMESSAGE_WITH_TYPENAME,
-					typeFile.getFullPath(), Messages.TemplateExportFilter_FILE_IGNORED));
-			return; // Do not export files passed to the export that are not in the TypeLibrary
-		}
+	public void export(final IFile typeFile, final String destination, final boolean forceOverwrite,
+			final EObject source) throws ExportException.UserInteraction {
+		write(prepare(typeFile, destination, source), forceOverwrite);
+	}
+
+	/**
+	 * Generate the files of a type without writing them.
+	 *
+	 * Preparing is thread safe, so that the files of several types can be
+	 * generated in parallel. The errors, warnings, and infos of the generation are
+	 * kept in the returned prepared export and are added to the messages of this
+	 * filter when it is written.
+	 *
+	 * @param typeFile    the type file
+	 * @param destination the destination
+	 * @param source      the source to export or null to load it from the type
+	 *                    file
+	 * @return the prepared export
+	 */
+	public PreparedExport prepare(final IFile typeFile, final String destination, EObject source) {
+		final PreparedExport prepared = new PreparedExport(typeFile);
+		preparing.set(prepared);
 		try {
+			if (source == null && typeFile != null
+					&& TypeLibraryManager.INSTANCE.getTypeEntryForFile(typeFile) == null) {
+				getWarnings().add(MessageFormat.format(Messages.TemplateExportFilter_PREFIX_ERRORMESSAGE_WITH_TYPENAME,
+						typeFile.getFullPath(), Messages.TemplateExportFilter_FILE_IGNORED));
+				return prepared; // Do not export files passed to the export that are not in the TypeLibrary
+			}
+			if (source == null && typeFile != null && lookupGenerationCache(prepared, destination)) {
+				return prepared; // the files written by the last export are still up to date
+			}
 			if (source == null && typeFile != null) {
 				final ResourceSet resourceSet = new ResourceSetImpl();
 				final Resource resource = resourceSet
@@ -121,15 +190,44 @@ public void export(final IFile typeFile, final String destination, final boolean
 				source = resource.getContents().get(0);
 			}
 
-			String name = "anonymous"; //$NON-NLS-1$
 			if (source instanceof final INamedElement ne) {
-				name = ne.getName();
+				prepared.name = ne.getName();
 			} else if (typeFile != null) {
-				name = typeFile.getFullPath().removeFileExtension().lastSegment();
+				prepared.name = typeFile.getFullPath().removeFileExtension().lastSegment();
 			}
 
-			final DelayedFiles files = generateFileContent(destination, name, source);
+			prepared.files = generateFileContent(destination, prepared, source);
+		} catch (final Exception t) {
+			FordiacLogHelper.logError(Messages.TemplateExportFilter_ErrorDuringTemplateGeneration, t);
+			getErrors().add(t.getMessage() != null ? t.getMessage()
+					: Messages.TemplateExportFilter_ErrorDuringTemplateGeneration);
+		} finally {
+			preparing.remove();
+		}
+		return prepared;
+	}
 
+	/**
+	 * Write the files of a prepared export.
+	 *
+	 * Writing may ask the user how to handle existing files and therefore has to
+	 * be done one type after the other.
+	 *
+	 * @param prepared       the prepared export
+	 * @param forceOverwrite the force overwrite
+	 * @throws ExportException.UserInteraction if the user selected to overwrite or
+	 *                                         cancel all remaining files
+	 */
+	public void write(final PreparedExport prepared, final boolean forceOverwrite)
+			throws ExportException.UserInteraction {
+		getErrors().addAll(prepared.errors);
+		getWarnings().addAll(prepared.warnings);
+		getInfos().addAll(prepared.infos);
+		final DelayedFiles files = prepared.files;
+		if (files == null) {
+			return;
+		}
+		try {
 			// set a default value for the result of the MessageDialog that does not
 			// conflict with the current state
 			int res = BUTTON_OVERWRITE;
@@ -158,6 +256,7 @@ public void export(final IFile typeFile, final String destination, final boolean
 			if (overwrite || (BUTTON_MERGE == res)) {
 				// write the files that were prepared
 				final Iterable<StoredFiles> writtenFiles = files.write(overwrite);
+				storeInGenerationCache(prepared);
 
 				// check differences of the files using the compare editor
 				if (!overwrite) {
@@ -169,7 +268,7 @@ public void export(final IFile typeFile, final String destination, final boolean
 				throw (new ExportException.CancelAll());
 			} else { // the cancel button was selected / ESC pressed
 				getWarnings().add(MessageFormat.format(Messages.TemplateExportFilter_PREFIX_ERRORMESSAGE_WITH_TYPENAME,
-						typeFile != null ? typeFile.getFullPath() : name,
+						prepared.typeFile != null ? prepared.typeFile.getFullPath() : prepared.name,
 						Messages.TemplateExportFilter_EXPORT_CANCELED));
 			}
 
@@ -182,9 +281,46 @@ public void export(final IFile typeFile, final String destination, final boolean
 		}
 	}
 
-	private DelayedFiles generateFileContent(final String destination, final String name, final EObject source)
-			throws ExportException {
+	/**
+	 * {@inheritDoc}
+	 *
+	 * While a type is prepared, these are the errors of the prepared export of
+	 * the current thread.
+	 */
+	@Override
+	public List<String> getErrors() {
+		final PreparedExport prepared = preparing.get();
+		return prepared != null ? prepared.errors : super.getErrors();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * While a type is prepared, these are the warnings of the prepared export of
+	 * the current thread.
+	 */
+	@Override
+	public List<String> getWarnings() {
+		final PreparedExport prepared = preparing.get();
+		return prepared != null ? prepared.warnings : super.getWarnings();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * While a type is prepared, these are the infos of the prepared export of the
+	 * current thread.
+	 */
+	@Override
+	public List<String> getInfos() {
+		final PreparedExport prepared = preparing.get();
+		return prepared != null ? prepared.infos : super.getInfos();
+	}
+
+	private DelayedFiles generateFileContent(final String destination, final PreparedExport prepared,
+			final EObject source) throws ExportException {
 		final DelayedFiles files = new DelayedFiles();
+		final String name = prepared.name;
 
 		final Path destinationPath = Paths.get(destination);
 		final Set<? extends IExportTemplate> templates = this.getTemplates(name, source);
@@ -201,6 +337,7 @@ private DelayedFiles generateFileContent(final String destination, final String
 					.collect(Collectors.joining(System.lineSeparator()));
 			final Path templatePath = destinationPath.resolve(template.getPath());
 			files.write(templatePath, processed);
+			prepared.outputs.add(templatePath);
 		}
 		return files;
 	}
@@ -223,6 +360,65 @@ private static void openMergeEditor(final Iterable<StoredFiles> writtenFiles) th
 		}
 	}
 
+	/**
+	 * Look up the export of a type file in the generation cache of its project.
+	 *
+	 * @return true if the files written by the last export of the type are still
+	 *         up to date
+	 */
+	private boolean lookupGenerationCache(final PreparedExport prepared, final String destination) {
+		final GenerationCache cache = GenerationCache.get(prepared.typeFile.getProject());
+		if (cache == null) {
+			return false;
+		}
+		final String fingerprint = GenerationCache.getFingerprint(prepared.typeFile, exporterVersion,
+				getGenerationOptions());
+		if (fingerprint == null) {
+			return false;
+		}
+		final String cacheKey = GenerationCache.getKey(prepared.typeFile, destination);
+		final GenerationCache.Entry entry = cache.lookup(cacheKey, fingerprint);
+		if (entry != null) {
+			prepared.warnings.addAll(entry.warnings());
+			prepared.infos.addAll(entry.infos());
+			prepared.files = new DelayedFiles();
+			return true;
+		}
+		prepared.generationCache = cache;
+		prepared.cacheKey = cacheKey;
+		prepared.fingerprint = fingerprint;
+		return false;
+	}
+
+	private static void storeInGenerationCache(final PreparedExport prepared) {
+		if (prepared.generationCache == null || !prepared.errors.isEmpty()) {
+			return;
+		}
+		final List<OutputFile> outputs = prepared.outputs.stream().map(OutputFile::of).toList();
+		if (!outputs.contains(null)) {
+			prepared.generationCache.store(prepared.cacheKey, new GenerationCache.Entry(prepared.fingerprint,
+					outputs, List.copyOf(prepared.warnings), List.copyOf(prepared.infos)));
+		}
+	}
+
+	private static String getBundleVersion(final Class<?> clazz) {
+		final Bundle bundle = FrameworkUtil.getBundle(clazz);
+		return bundle != null ? bundle.getVersion().toString() : ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Get the options of this filter that influence the generated files.
+	 *
+	 * The options are part of the fingerprint of the generation cache, so that
+	 * types are exported again if the options change.
+	 *
+	 * @return the options as string
+	 */
+	@SuppressWarnings("static-method")
+	protected String getGenerationOptions() {
+		return ""; //$NON-NLS-1$
+	}
+
 	protected abstract Set<IExportTemplate> getTemplates(String name, EObject source);
 
 }
@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.export.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeEntry;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryManager;
+import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
+
+/**
+ * Persistent cache of the generated files of exported types.
+ *
+ * For every exported type file and destination the cache stores a fingerprint
+ * of everything the generated files depend on (i.e., the content of the type
+ * file and of all types it depends on, the exporter version, and the export
+ * options) together with the size and modification time of the written files.
+ * As long as the fingerprint is the same and the written files were not
+ * touched, the export of the type can be skipped without running the
+ * templates.
+ *
+ * The cache is kept in the project's working location inside the workspace
+ * meta data. New entries are appended to the cache file, which is compacted
+ * when it is loaded.
+ */
+public final class GenerationCache {
+
+	private static final String PLUGIN_ID = "org.eclipse.fordiac.ide.export"; //$NON-NLS-1$
+	private static final String CACHE_FILE_NAME = "generation.cache"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x34444745; // "4DGE"
+	private static final int VERSION = 1;
+
+	private static final Map<IProject, GenerationCache> CACHES = new ConcurrentHashMap<>();
+
+	/** content hashes of type files, valid as long as the file stamps match */
+	private static final Map<IPath, ContentHash> CONTENT_HASHES = new ConcurrentHashMap<>();
+
+	private record ContentHash(long modificationStamp, long localTimeStamp, String hash) {
+	}
+
+	/**
+	 * A file written by the export of a type.
+	 *
+	 * @param path         the absolute path of the file
+	 * @param size         the size of the file after it was written
+	 * @param lastModified the modification time of the file after it was written
+	 */
+	public record OutputFile(String path, long size, long lastModified) {
+
+		/**
+		 * Get the current state of a written file.
+		 *
+		 * @param path the path of the file
+		 * @return the output file or null if the file does not exist
+		 */
+		public static OutputFile of(final Path path) {
+			final File file = path.toAbsolutePath().toFile();
+			return file.isFile() ? new OutputFile(file.getPath(), file.length(), file.lastModified()) : null;
+		}
+
+		boolean isUnchanged() {
+			final File file = new File(path);
+			return file.isFile() && file.length() == size && file.lastModified() == lastModified;
+		}
+	}
+
+	/**
+	 * The cached export of a type.
+	 *
+	 * @param fingerprint the fingerprint of the type when it was exported
+	 * @param outputs     the written files
+	 * @param warnings    the warnings of the export
+	 * @param infos       the infos of the export
+	 */
+	public record Entry(String fingerprint, List<OutputFile> outputs, List<String> warnings, List<String> infos) {
+	}
+
+	private final Path cacheFile;
+	private final Map<String, Entry> entries;
+
+	private GenerationCache(final Path cacheFile, final Map<String, Entry> entries) {
+		this.cacheFile = cacheFile;
+		this.entries = entries;
+	}
+
+	/**
+	 * Get the generation cache of the given project.
+	 *
+	 * @param project the project of the exported types
+	 * @return the cache or null if the project has no working location
+	 */
+	public static GenerationCache get(final IProject project) {
+		if (project == null || !project.isAccessible()) {
+			return null;
+		}
+		final GenerationCache cache = CACHES.computeIfAbsent(project, GenerationCache::load);
+		return cache.cacheFile != null ? cache : null;
+	}
+
+	/**
+	 * Get the key of an exported type file.
+	 *
+	 * @param typeFile    the type file
+	 * @param destination the destination directory of the export
+	 * @return the key
+	 */
+	public static String getKey(final IFile typeFile, final String destination) {
+		return typeFile.getProjectRelativePath().toString() + File.pathSeparator
+				+ Path.of(destination).toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Compute the fingerprint of a type file.
+	 *
+	 * The fingerprint covers the content of the type file and of all types it
+	 * depends on (directly or indirectly) and the given exporter specific
+	 * settings.
+	 *
+	 * @param typeFile the type file
+	 * @param settings the exporter version, export options, etc.
+	 * @return the fingerprint or null if it could not be computed
+	 */
+	public static String getFingerprint(final IFile typeFile, final String... settings) {
+		final TypeEntry typeEntry = TypeLibraryManager.INSTANCE.getTypeEntryForFile(typeFile);
+		if (typeEntry == null) {
+			return null;
+		}
+		final MessageDigest digest = createDigest();
+		for (final String setting : settings) {
+			update(digest, setting);
+		}
+		for (final TypeEntry entry : collectDependencies(typeEntry)) {
+			final String hash = getContentHash(entry.getFile());
+			if (hash == null) {
+				return null;
+			}
+			update(digest, entry.getFullTypeName());
+			update(digest, hash);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Look up the export of a type file.
+	 *
+	 * @param key         the key of the type file
+	 * @param fingerprint the current fingerprint of the type file
+	 * @return the cached export or null if the type has to be exported again
+	 */
+	public Entry lookup(final String key, final String fingerprint) {
+		final Entry entry;
+		synchronized (this) {
+			entry = entries.get(key);
+		}
+		if (entry != null && entry.fingerprint().equals(fingerprint)
+				&& entry.outputs().stream().allMatch(OutputFile::isUnchanged)) {
+			return entry;
+		}
+		return null;
+	}
+
+	/**
+	 * Store the export of a type file.
+	 *
+	 * @param key   the key of the type file
+	 * @param entry the export
+	 */
+	public synchronized void store(final String key, final Entry entry) {
+		entries.put(key, entry);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(cacheFile,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)))) {
+			if (Files.size(cacheFile) == 0) {
+				writeHeader(out);
+			}
+			writeEntry(out, key, entry);
+		} catch (final IOException e) {
+			FordiacLogHelper.logWarning("Could not write generation cache: " + e.getMessage(), e); //$NON-NLS-1$
+		}
+	}
+
+	private static GenerationCache load(final IProject project) {
+		final Path cacheFile = getCacheFile(project);
+		final Map<String, Entry> entries = new HashMap<>();
+		if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+			int records = -1;
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+				records = readEntries(in, entries);
+			} catch (final IOException e) {
+				// a broken cache is not an error, we just have to export all types again
+				entries.clear();
+				FordiacLogHelper.logInfo("Discarding generation cache of " + project.getName() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+						+ e.getMessage());
+			}
+			// drop outdated records before new ones are appended
+			if (records != entries.size()) {
+				compact(cacheFile, entries);
+			}
+		}
+		return new GenerationCache(cacheFile, entries);
+	}
+
+	/** @return the number of read records, -1 if the cache file is outdated */
+	private static int readEntries(final DataInputStream in, final Map<String, Entry> entries) throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			return -1; // cache from a different version, rebuild it
+		}
+		int records = 0;
+		while (true) {
+			final String key;
+			try {
+				key = in.readUTF();
+			} catch (final EOFException e) {
+				return records; // end of the cache file
+			}
+			final String fingerprint = in.readUTF();
+			final int outputCount = in.readInt();
+			final List<OutputFile> outputs = new ArrayList<>(outputCount);
+			for (int i = 0; i < outputCount; i++) {
+				outputs.add(new OutputFile(in.readUTF(), in.readLong(), in.readLong()));
+			}
+			entries.put(key, new Entry(fingerprint, outputs, readStrings(in), readStrings(in)));
+			records++;
+		}
+	}
+
+	private static void compact(final Path cacheFile, final Map<String, Entry> entries) {
+		final Path tmpFile = cacheFile.resolveSibling(CACHE_FILE_NAME + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+				writeHeader(out);
+				for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+					writeEntry(out, entry.getKey(), entry.getValue());
+				}
+			}
+			Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (final IOException e) {
+			FordiacLogHelper.logWarning("Could not write generation cache: " + e.getMessage(), e); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeHeader(final DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+	}
+
+	private static void writeEntry(final DataOutputStream out, final String key, final Entry entry)
+			throws IOException {
+		out.writeUTF(key);
+		out.writeUTF(entry.fingerprint());
+		out.writeInt(entry.outputs().size());
+		for (final OutputFile output : entry.outputs()) {
+			out.writeUTF(output.path());
+			out.writeLong(output.size());
+			out.writeLong(output.lastModified());
+		}
+		writeStrings(out, entry.warnings());
+		writeStrings(out, entry.infos());
+	}
+
+	private static List<String> readStrings(final DataInputStream in) throws IOException {
+		final int count = in.readInt();
+		final List<String> strings = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			strings.add(in.readUTF());
+		}
+		return strings;
+	}
+
+	private static void writeStrings(final DataOutputStream out, final List<String> strings) throws IOException {
+		out.writeInt(strings.size());
+		for (final String string : strings) {
+			out.writeUTF(string);
+		}
+	}
+
+	/** @return the type entry and all its direct and indirect dependencies */
+	private static List<TypeEntry> collectDependencies(final TypeEntry typeEntry) {
+		final Set<TypeEntry> visited = new HashSet<>();
+		final Deque<TypeEntry> pending = new ArrayDeque<>();
+		pending.add(typeEntry);
+		while (!pending.isEmpty()) {
+			final TypeEntry entry = pending.poll();
+			if (visited.add(entry)) {
+				pending.addAll(entry.getDependencies());
+			}
+		}
+		// the order of the dependencies must not change the fingerprint
+		return visited.stream().sorted(Comparator.comparing(TypeEntry::getFullTypeName,
+				Comparator.nullsFirst(Comparator.naturalOrder()))).toList();
+	}
+
+	private static String getContentHash(final IFile file) {
+		if (file == null || file.getLocation() == null) {
+			return null;
+		}
+		final ContentHash contentHash = CONTENT_HASHES.get(file.getFullPath());
+		if (contentHash != null && contentHash.modificationStamp() == file.getModificationStamp()
+				&& contentHash.localTimeStamp() == file.getLocalTimeStamp()) {
+			return contentHash.hash();
+		}
+		try {
+			final long modificationStamp = file.getModificationStamp();
+			final long localTimeStamp = file.getLocalTimeStamp();
+			final String hash = HexFormat.of()
+					.formatHex(createDigest().digest(Files.readAllBytes(file.getLocation().toFile().toPath())));
+			CONTENT_HASHES.put(file.getFullPath(), new ContentHash(modificationStamp, localTimeStamp, hash));
+			return hash;
+		} catch (final IOException e) {
+			return null;
+		}
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (final NoSuchAlgorithmException e) {
+			// every Java platform has to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void update(final MessageDigest digest, final String value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static Path getCacheFile(final IProject project) {
+		try {
+			final IPath location = project.getWorkingLocation(PLUGIN_ID);
+			return location != null ? location.append(CACHE_FILE_NAME).toFile().toPath() : null;
+		} catch (final IllegalStateException e) {
+			// no workspace location available (e.g., headless tests)
+			return null;
+		}
+	}
+}
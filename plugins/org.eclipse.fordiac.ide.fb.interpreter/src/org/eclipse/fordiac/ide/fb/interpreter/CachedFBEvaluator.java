@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.fb.interpreter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.EMap;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.BasicFBTypeRuntime;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBNetworkRuntime;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBRuntimeAbstract;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.SimpleFBTypeRuntime;
+import org.eclipse.fordiac.ide.model.eval.Evaluator;
+import org.eclipse.fordiac.ide.model.eval.EvaluatorFactory;
+import org.eclipse.fordiac.ide.model.eval.fb.BasicFBEvaluator;
+import org.eclipse.fordiac.ide.model.eval.value.AnyElementaryValue;
+import org.eclipse.fordiac.ide.model.eval.value.Value;
+import org.eclipse.fordiac.ide.model.eval.variable.FBVariable;
+import org.eclipse.fordiac.ide.model.eval.variable.Variable;
+import org.eclipse.fordiac.ide.model.eval.variable.VariableOperations;
+import org.eclipse.fordiac.ide.model.libraryElement.BaseFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.ECTransition;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.FBType;
+import org.eclipse.fordiac.ide.model.libraryElement.SimpleFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+
+/**
+ * Prepared evaluator of the FB type of an FB runtime.
+ *
+ * Every FB runtime owns its own copy of the FB type, whose variable values
+ * hold the state of the runtime. The evaluator for this type and the
+ * evaluator variables are created once and attached to the type. Before an
+ * evaluation only variables whose value was changed from outside (e.g., by
+ * sampling the data inputs) are parsed again, and after an algorithm only
+ * variables whose value changed since they were last written are written back
+ * to the type.
+ *
+ * As every transaction works on its own copy of the runtime, the evaluator is
+ * handed on to these copies (see
+ * {@link #transfer(FBRuntimeAbstract, FBRuntimeAbstract)}) and bound to the
+ * variables of the copied type.
+ */
+public final class CachedFBEvaluator extends AdapterImpl {
+
+	private List<VarDeclaration> varDecls;
+	private final List<Variable<?>> vars;
+	/** the value strings of the type as last synchronized with the variables */
+	private final String[] syncedStrings;
+	/** the variable values as last synchronized with the type */
+	private final Value[] syncedValues;
+	private final Map<String, Evaluator> algorithmEvaluators = new HashMap<>();
+	private final Map<String, Evaluator> conditionEvaluators = new HashMap<>();
+	/** the variables may differ from the type, e.g., after a failed algorithm */
+	private boolean stale;
+
+	private CachedFBEvaluator(final BaseFBType baseFBType) {
+		varDecls = collectVarDecls(baseFBType);
+		vars = new ArrayList<>(varDecls.size());
+		syncedStrings = new String[varDecls.size()];
+		syncedValues = new Value[varDecls.size()];
+		for (int i = 0; i < varDecls.size(); i++) {
+			final VarDeclaration varDecl = varDecls.get(i);
+			final Variable<?> variable = VariableOperations.newVariable(varDecl, varDecl.getValue().getValue());
+			vars.add(variable);
+			syncedStrings[i] = varDecl.getValue().getValue();
+		}
+		final FBVariable fbVar = new FBVariable("THIS", baseFBType, Collections.emptyList()); //$NON-NLS-1$
+		final Evaluator fbEval = EvaluatorFactory.createEvaluator(baseFBType, getEvaluatorClass(baseFBType), fbVar,
+				vars, null);
+		fbEval.getChildren().forEach((callable, evaluator) -> algorithmEvaluators.putIfAbsent(callable.getName(),
+				evaluator));
+		if (fbEval instanceof final BasicFBEvaluator basicFBEvaluator) {
+			basicFBEvaluator.getTransitionEvaluators().forEach((transition, evaluator) -> conditionEvaluators
+					.putIfAbsent(transition.getConditionExpression(), evaluator));
+		}
+	}
+
+	/**
+	 * Get the prepared evaluator of the given FB type with its variables updated
+	 * to the current values of the type.
+	 *
+	 * @param baseFBType the FB type of the FB runtime
+	 * @return the evaluator
+	 */
+	static CachedFBEvaluator get(final BaseFBType baseFBType) {
+		CachedFBEvaluator cached = getExisting(baseFBType);
+		if (cached == null) {
+			cached = new CachedFBEvaluator(baseFBType);
+			baseFBType.eAdapters().add(cached);
+		} else {
+			cached.readVariables();
+		}
+		return cached;
+	}
+
+	/**
+	 * Get the prepared evaluator of the given FB type.
+	 *
+	 * @param baseFBType the FB type of the FB runtime
+	 * @return the attached evaluator or null if the type was not evaluated yet
+	 */
+	public static CachedFBEvaluator getExisting(final BaseFBType baseFBType) {
+		return (CachedFBEvaluator) EcoreUtil.getExistingAdapter(baseFBType, CachedFBEvaluator.class);
+	}
+
+	/**
+	 * Hand on the prepared evaluators of a runtime to a copy of this runtime. The
+	 * runtime keeps its state, but is not run again afterwards.
+	 *
+	 * @param runtime the runtime
+	 * @param copy    the copy of the runtime
+	 */
+	public static void transfer(final FBRuntimeAbstract runtime, final FBRuntimeAbstract copy) {
+		if (runtime instanceof final BasicFBTypeRuntime basicRuntime
+				&& copy instanceof final BasicFBTypeRuntime basicCopy) {
+			transfer(basicRuntime.getBasicfbtype(), basicCopy.getBasicfbtype());
+		} else if (runtime instanceof final SimpleFBTypeRuntime simpleRuntime
+				&& copy instanceof final SimpleFBTypeRuntime simpleCopy) {
+			transfer(simpleRuntime.getSimpleFBType(), simpleCopy.getSimpleFBType());
+		} else if (runtime instanceof final FBNetworkRuntime networkRuntime
+				&& copy instanceof final FBNetworkRuntime networkCopy) {
+			// the copy keeps the order of the type runtimes
+			final EMap<FBNetworkElement, FBRuntimeAbstract> typeRuntimes = networkRuntime.getTypeRuntimes();
+			final EMap<FBNetworkElement, FBRuntimeAbstract> copiedTypeRuntimes = networkCopy.getTypeRuntimes();
+			for (int i = 0; i < typeRuntimes.size() && i < copiedTypeRuntimes.size(); i++) {
+				transfer(typeRuntimes.get(i).getValue(), copiedTypeRuntimes.get(i).getValue());
+			}
+		}
+	}
+
+	private static void transfer(final BaseFBType baseFBType, final BaseFBType copy) {
+		if (baseFBType == null || copy == null) {
+			return;
+		}
+		final CachedFBEvaluator cached = getExisting(baseFBType);
+		if (cached != null && getExisting(copy) == null) {
+			final List<VarDeclaration> copiedVarDecls = collectVarDecls(copy);
+			if (copiedVarDecls.size() == cached.varDecls.size()) {
+				baseFBType.eAdapters().remove(cached);
+				cached.varDecls = copiedVarDecls;
+				copy.eAdapters().add(cached);
+			}
+		}
+	}
+
+	Evaluator getAlgorithmEvaluator(final String algorithmName) {
+		return algorithmEvaluators.get(algorithmName);
+	}
+
+	Evaluator getConditionEvaluator(final ECTransition transition) {
+		return conditionEvaluators.get(transition.getConditionExpression());
+	}
+
+	/** Write the changed variable values back to the FB type. */
+	void writeVariables() {
+		for (int i = 0; i < vars.size(); i++) {
+			final Value value = vars.get(i).getValue();
+			// only elementary values are immutable, all others may have been changed in
+			// place
+			if (!(value instanceof AnyElementaryValue && value.equals(syncedValues[i]))) {
+				final String valueString = value.toString();
+				varDecls.get(i).getValue().setValue(valueString);
+				syncedStrings[i] = valueString;
+				syncedValues[i] = value;
+			}
+		}
+	}
+
+	/**
+	 * Discard the synchronization state, so that all variables are read again
+	 * from the FB type before the next evaluation (e.g., after an algorithm failed
+	 * and left the variables partially written).
+	 */
+	void invalidate() {
+		stale = true;
+	}
+
+	private void readVariables() {
+		for (int i = 0; i < vars.size(); i++) {
+			final VarDeclaration varDecl = varDecls.get(i);
+			final String valueString = varDecl.getValue().getValue();
+			if (stale || !Objects.equals(valueString, syncedStrings[i])) {
+				final Value value = VariableOperations.newVariable(varDecl, valueString).getValue();
+				vars.get(i).setValue(value);
+				syncedStrings[i] = valueString;
+				// write the value back in its normalized form
+				syncedValues[i] = null;
+			}
+		}
+		stale = false;
+	}
+
+	private static List<VarDeclaration> collectVarDecls(final BaseFBType baseFBType) {
+		final List<VarDeclaration> result = new ArrayList<>(baseFBType.getInterfaceList().getInputVars());
+		result.addAll(baseFBType.getInterfaceList().getOutputVars());
+		result.addAll(baseFBType.getInternalVars());
+		result.addAll(baseFBType.getInternalConstVars());
+		return result;
+	}
+
+	private static Class<? extends FBType> getEvaluatorClass(final BaseFBType baseFBType) {
+		if (baseFBType instanceof BasicFBType) {
+			return BasicFBType.class;
+		}
+		if (baseFBType instanceof SimpleFBType) {
+			return SimpleFBType.class;
+		}
+		return null;
+	}
+
+	@Override
+	public boolean isAdapterForType(final Object type) {
+		return type == CachedFBEvaluator.class;
+	}
+}
@@ -11,16 +11,15 @@
  *   Antonio Garmend�a, Bianca Wiesmayr
  *       - initial implementation and/or documentation
  *   Paul Pavlicek - cleanup
+ *   agent - reuse the prepared evaluator of an FB runtime, avoid redundant
+ *           runtime copies, incremental coverage tracking
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,6 +37,7 @@
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.OperationalSemanticsFactory;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.SimpleFBTypeRuntime;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.TransitionTrace;
+import org.eclipse.fordiac.ide.fb.interpreter.api.CoverageTracker;
 import org.eclipse.fordiac.ide.fb.interpreter.api.EventOccFactory;
 import org.eclipse.fordiac.ide.fb.interpreter.api.IRunFBTypeVisitor;
 import org.eclipse.fordiac.ide.fb.interpreter.api.LambdaVisitor;
@@ -47,12 +47,7 @@
 import org.eclipse.fordiac.ide.model.edit.helper.InitialValueHelper;
 import org.eclipse.fordiac.ide.model.eval.Evaluator;
 import org.eclipse.fordiac.ide.model.eval.EvaluatorException;
-import org.eclipse.fordiac.ide.model.eval.EvaluatorFactory;
-import org.eclipse.fordiac.ide.model.eval.fb.BasicFBEvaluator;
 import org.eclipse.fordiac.ide.model.eval.value.BoolValue;
-import org.eclipse.fordiac.ide.model.eval.variable.FBVariable;
-import org.eclipse.fordiac.ide.model.eval.variable.Variable;
-import org.eclipse.fordiac.ide.model.eval.variable.VariableOperations;
 import org.eclipse.fordiac.ide.model.libraryElement.Algorithm;
 import org.eclipse.fordiac.ide.model.libraryElement.BaseFBType;
 import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
@@ -81,7 +76,10 @@ public class DefaultRunFBType implements IRunFBTypeVisitor {
 	public DefaultRunFBType(final EventOccurrence eventOccurrence) {
 		this.eventOccurrence = eventOccurrence;
 		this.nameToFBNetwork = new HashMap<>();
-		if (this.eventOccurrence.getFbRuntime() instanceof final FBNetworkRuntime fbNetworkRuntime) {
+		// transactions after the first one are run on their result runtime only
+		final FBRuntimeAbstract runtime = eventOccurrence.getFbRuntime() != null ? eventOccurrence.getFbRuntime()
+				: eventOccurrence.getResultFBRuntime();
+		if (runtime instanceof final FBNetworkRuntime fbNetworkRuntime) {
 			final FBNetwork fbNetwork = fbNetworkRuntime.getFbnetwork();
 			fbNetwork.getNetworkElements()
 			.forEach(networkElement -> nameToFBNetwork.put(networkElement.getName(), networkElement));
@@ -113,10 +111,14 @@ public EList<EventOccurrence> runBasicFBType(final BasicFBTypeRuntime basicFBTyp
 		if (eCState == null) {
 			basicFBTypeRuntime.setActiveState(eCC.getStart().getName());
 		}
+		final CoverageTracker coverageTracker = CoverageTracker.getExisting(basicFBTypeRuntime.getBasicfbtype());
 		// apply event and evaluate transitions
 		var firedTransition = evaluateOutTransitions(basicFBTypeRuntime);
 		addToTrace(firedTransition, basicFBTypeRuntime.eContainer().eContainer());
 		while (firedTransition != null) {
+			if (coverageTracker != null) {
+				coverageTracker.visit(firedTransition);
+			}
 			isConsumed(this.eventOccurrence);
 			basicFBTypeRuntime.setActiveState(firedTransition.getDestination().getName());// fire transition
 			outputEvents.addAll(performEntryAction(basicFBTypeRuntime));
@@ -155,42 +157,22 @@ private static EList<EventOccurrence> performEntryAction(final BasicFBTypeRuntim
 		return outputEvents;
 	}
 
-	private static Variable<?> mapVar(final VarDeclaration vdec) {
-		return VariableOperations.newVariable(vdec, vdec.getValue().getValue());
-	}
-
 	private static void processAlgorithmWithEvaluator(final BaseFBType basefbtype, final Algorithm algorithm) {
 		if (!(algorithm instanceof STAlgorithm)) {
 			throw new IllegalArgumentException("StructuredTextAlgorithm object could not be found"); //$NON-NLS-1$
 		}
-		final List<VarDeclaration> varDecls = new ArrayList<>(basefbtype.getInterfaceList().getInputVars());
-		varDecls.addAll(basefbtype.getInterfaceList().getOutputVars());
-		varDecls.addAll(basefbtype.getInternalVars());
-		varDecls.addAll(basefbtype.getInternalConstVars());
-		final List<Variable<?>> vars = varDecls.stream().map(DefaultRunFBType::mapVar).collect(Collectors.toList());
-		final FBVariable fbVar = new FBVariable("THIS", basefbtype, Collections.emptyList()); //$NON-NLS-1$
-		Class<? extends FBType> baseFBClass = null;
-		if (basefbtype instanceof BasicFBType) {
-			baseFBClass = BasicFBType.class;
-		} else if (basefbtype instanceof SimpleFBType) {
-			baseFBClass = SimpleFBType.class;
-		}
-		final Evaluator fbEval = EvaluatorFactory.createEvaluator(basefbtype, baseFBClass, fbVar, vars, null);
-		final Evaluator algoEval = fbEval.getChildren().entrySet().stream()
-				.filter(entry -> entry.getKey().getName().equals(algorithm.getName())).findAny().map(Entry::getValue)
-				.orElse(null);
+		final CachedFBEvaluator fbEval = CachedFBEvaluator.get(basefbtype);
+		final Evaluator algoEval = fbEval.getAlgorithmEvaluator(algorithm.getName());
 		if (algoEval != null) {
 			try {
 				algoEval.evaluate();
-				vars.forEach(v -> {
-					final VarDeclaration varDecl = varDecls.stream().filter(vd -> vd.getName().equals(v.getName()))
-							.findAny().orElse(null);
-					final String value = v.getValue().toString();
-					varDecl.getValue().setValue(value);
-				});
+				fbEval.writeVariables();
 			} catch (final EvaluatorException e) {
+				// the variables may hold a partial result, read them again from the type
+				fbEval.invalidate();
 				FordiacLogHelper.logError("Algorithm: " + algorithm.getName(), e);//$NON-NLS-1$
 			} catch (final InterruptedException e) {
+				fbEval.invalidate();
 				FordiacLogHelper.logError("Algorithm: " + algorithm.getName(), e);//$NON-NLS-1$
 				Thread.currentThread().interrupt();
 			}
@@ -203,59 +185,43 @@ private static boolean processConditionWithEvaluator(final BasicFBType basicFBTy
 		if (ecTransition.getConditionExpression().isEmpty()) {
 			throw new IllegalArgumentException("ConditionExpression object cannot be empty"); //$NON-NLS-1$
 		}
-		final List<VarDeclaration> varDecls = new ArrayList<>(basicFBType.getInterfaceList().getInputVars());
-		varDecls.addAll(basicFBType.getInterfaceList().getOutputVars());
-		varDecls.addAll(basicFBType.getInternalVars());
-		final List<Variable<?>> vars = varDecls.stream()
-				.map(v -> VariableOperations.newVariable(v, v.getValue().getValue())).collect(Collectors.toList());
-		final FBVariable fbVar = new FBVariable("THIS", basicFBType, Collections.emptyList()); //$NON-NLS-1$
-		final Class<? extends FBType> baseFBClass = BasicFBType.class;
-
-		final Evaluator fbEval = EvaluatorFactory.createEvaluator(basicFBType, baseFBClass, fbVar, vars, null);
-		if (fbEval instanceof final BasicFBEvaluator fbEvaluator) {
-			final Map<ECTransition, Evaluator> ecTransitionToEvaluator = fbEvaluator.getTransitionEvaluators();
-			final Optional<Entry<ECTransition, Evaluator>> findEvaluator = ecTransitionToEvaluator.entrySet().stream()
-					.filter(entryEvaluator -> entryEvaluator.getKey().getConditionExpression()
-							.contentEquals(ecTransition.getConditionExpression()))
-					.findFirst();
-			if (findEvaluator.isEmpty()) {
-				return false;
-			}
-
-			final Evaluator evaluator = findEvaluator.get().getValue();
-			try {
-				final org.eclipse.fordiac.ide.model.eval.value.Value value = evaluator.evaluate();
-				if (value instanceof final BoolValue boolValue) {
-					return boolValue.boolValue();
-				}
-				throw new IllegalStateException("The evaluator does not return a boolean value"); //$NON-NLS-1$
-			} catch (final EvaluatorException e) {
-				FordiacLogHelper.logError("Condition Expression: " + evaluator.getName(), //$NON-NLS-1$
-						e);
-			} catch (final InterruptedException e) {
-				FordiacLogHelper.logError("Condition Expression: " + evaluator.getName(), //$NON-NLS-1$
-						e);
-				Thread.currentThread().interrupt();
+		final Evaluator evaluator = CachedFBEvaluator.get(basicFBType).getConditionEvaluator(ecTransition);
+		if (evaluator == null) {
+			return false;
+		}
+		try {
+			final org.eclipse.fordiac.ide.model.eval.value.Value value = evaluator.evaluate();
+			if (value instanceof final BoolValue boolValue) {
+				return boolValue.boolValue();
 			}
-
+			throw new IllegalStateException("The evaluator does not return a boolean value"); //$NON-NLS-1$
+		} catch (final EvaluatorException e) {
+			FordiacLogHelper.logError("Condition Expression: " + evaluator.getName(), //$NON-NLS-1$
+					e);
+		} catch (final InterruptedException e) {
+			FordiacLogHelper.logError("Condition Expression: " + evaluator.getName(), //$NON-NLS-1$
+					e);
+			Thread.currentThread().interrupt();
 		}
 		return false;
 	}
 
 	private static EventOccurrence createOutputEventOccurrence(final FBRuntimeAbstract runtime, final Event output,
 			final FBType executedFbtype) {
-		// Copy FBTypeRuntime
-		final FBRuntimeAbstract newFBTypeRT = EcoreUtil.copy(runtime);
-		// Copy FBType
-		final FBType copyFBType = EcoreUtil.copy(executedFbtype);
-		// Add copy FBType to the RuntimeFBType
-		if (runtime instanceof BasicFBTypeRuntime) {
-			((BasicFBTypeRuntime) newFBTypeRT).setBasicfbtype((BasicFBType) copyFBType);
-		} else if (runtime instanceof SimpleFBTypeRuntime) {
-			((SimpleFBTypeRuntime) newFBTypeRT).setSimpleFBType((SimpleFBType) copyFBType);
-		} else {
+		if (!(runtime instanceof BasicFBTypeRuntime) && !(runtime instanceof SimpleFBTypeRuntime)) {
 			throw new UnsupportedOperationException();
 		}
+		// Copy FBTypeRuntime, this also copies the contained FBType
+		final FBRuntimeAbstract newFBTypeRT = EcoreUtil.copy(runtime);
+		if (runtime.getModel() != executedFbtype) {
+			// Add copy of a not contained FBType to the RuntimeFBType
+			final FBType copyFBType = EcoreUtil.copy(executedFbtype);
+			if (newFBTypeRT instanceof final BasicFBTypeRuntime basicFBTypeRuntime) {
+				basicFBTypeRuntime.setBasicfbtype((BasicFBType) copyFBType);
+			} else if (newFBTypeRT instanceof final SimpleFBTypeRuntime simpleFBTypeRuntime) {
+				simpleFBTypeRuntime.setSimpleFBType((SimpleFBType) copyFBType);
+			}
+		}
 		final var newEventOccurrence = OperationalSemanticsFactory.eINSTANCE.createEventOccurrence();
 		newEventOccurrence.setFbRuntime(newFBTypeRT);
 		// Event
@@ -347,16 +313,16 @@ private void createTransactionsForConnectedPins(final EList<EventOccurrence> typ
 			final FBNetworkRuntime fBNetworkRuntime) {
 		typeOutputEos.forEach(typeEo -> {
 			// generate transactions for triggering all subsequent blocks
-			final EventOccurrence networkEo = getCorrespondingNetworkEvent(typeEo, fBNetworkRuntime);
+			final EventOccurrence networkEo = getCorrespondingNetworkEvent(typeEo);
 			typeEo.getCreatedTransactions().addAll(processEventConns(fBNetworkRuntime, networkEo));
 		});
 	}
 
-	private EventOccurrence getCorrespondingNetworkEvent(final EventOccurrence typeEo,
-			final FBNetworkRuntime fBNetworkRuntime) {
+	private EventOccurrence getCorrespondingNetworkEvent(final EventOccurrence typeEo) {
 		final Event mappedEvent = (Event) eventOccurrence.getParentFB()
 				.getInterfaceElement(typeEo.getEvent().getName());
-		final EventOccurrence networkEo = EventOccFactory.createFrom(mappedEvent, EcoreUtil.copy(fBNetworkRuntime));
+		// the network event occurrence only collects the created transactions, it does not need a runtime snapshot
+		final EventOccurrence networkEo = EventOccFactory.createFrom(mappedEvent, null);
 		networkEo.setParentFB(eventOccurrence.getParentFB());
 		return networkEo;
 	}
@@ -10,6 +10,7 @@
  * Contributors:
  *   Fabio Gandolfi
  *     - initial API and implementation and/or initial documentation
+ *   agent - coverage of an incremental coverage tracker
  *******************************************************************************/
 
 package org.eclipse.fordiac.ide.fb.interpreter.api;
@@ -33,6 +34,19 @@ public static float calculateCoverageOfSequence(final List<Transaction> transact
 		return -1;
 	}
 
+	/**
+	 * Get the state coverage of an execution without going through its
+	 * transactions.
+	 *
+	 * @param tracker the coverage tracker attached to the basic FB type of the
+	 *                runtime before the execution
+	 * @return the state coverage as used by
+	 *         {@link #calculateCoverageOfSequence(List, FBType)}
+	 */
+	public static float calculateCoverageOfSequence(final CoverageTracker tracker) {
+		return tracker.getStateCoverage();
+	}
+
 	public static float calculateNodeCoverageOfSuiteBy(final Map<String, Integer> visitedStates) {
 		final int allPossibleStates = visitedStates.size();
 
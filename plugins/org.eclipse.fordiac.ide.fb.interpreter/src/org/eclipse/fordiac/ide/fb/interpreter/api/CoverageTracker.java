@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.fb.interpreter.api;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.BasicFBTypeRuntime;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBRuntimeAbstract;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.ECC;
+import org.eclipse.fordiac.ide.model.libraryElement.ECState;
+import org.eclipse.fordiac.ide.model.libraryElement.ECTransition;
+
+/**
+ * Incremental state and path coverage of a basic FB type.
+ *
+ * The tracker is attached to the basic FB type of an FB runtime and is updated
+ * by the interpreter for every fired transition. States and paths are
+ * identified by integer IDs and the visited ones are kept in bit sets, so that
+ * the coverage can be queried at any time without going through the
+ * transactions of the execution. As every transaction works on its own copy of
+ * the runtime, the tracker is handed on to these copies (see
+ * {@link #transfer(FBRuntimeAbstract, FBRuntimeAbstract)}) and identifies
+ * states and transitions by their names.
+ *
+ * The states and paths are the same as used by {@link BasicFbExecutionTrace}: a
+ * state is visited when it is the destination of a fired transition, and every
+ * pair of source and destination state of a transition is a path. States
+ * without outgoing transitions form a path of their own, which is never
+ * visited.
+ */
+public final class CoverageTracker extends AdapterImpl {
+
+	private final Map<String, Integer> stateIds = new HashMap<>();
+	private final Map<List<String>, Integer> pathIds = new HashMap<>();
+	private final int pathCount;
+	private final BitSet visitedStates;
+	private final BitSet visitedPaths;
+
+	private CoverageTracker(final ECC ecc) {
+		final List<ECState> states = ecc.getECState();
+		for (final ECState state : states) {
+			stateIds.putIfAbsent(state.getName(), Integer.valueOf(stateIds.size()));
+		}
+		for (final ECTransition transition : ecc.getECTransition()) {
+			pathIds.putIfAbsent(getPath(transition), Integer.valueOf(pathIds.size()));
+		}
+		pathCount = pathIds.size()
+				+ (int) states.stream().filter(state -> state.getOutTransitions().isEmpty()).count();
+		visitedStates = new BitSet(states.size());
+		visitedPaths = new BitSet(pathCount);
+	}
+
+	/**
+	 * Attach a coverage tracker to the given basic FB type or reset the already
+	 * attached one.
+	 *
+	 * @param basicFBType the basic FB type of the FB runtime
+	 * @return the coverage tracker without any visited states or paths
+	 */
+	public static CoverageTracker attach(final BasicFBType basicFBType) {
+		CoverageTracker tracker = getExisting(basicFBType);
+		if (tracker == null) {
+			tracker = new CoverageTracker(basicFBType.getECC());
+			basicFBType.eAdapters().add(tracker);
+		} else {
+			tracker.reset();
+		}
+		return tracker;
+	}
+
+	/**
+	 * Get the coverage tracker of the given basic FB type.
+	 *
+	 * @param basicFBType the basic FB type of the FB runtime
+	 * @return the attached coverage tracker or null if coverage is not tracked
+	 */
+	public static CoverageTracker getExisting(final BasicFBType basicFBType) {
+		return (CoverageTracker) EcoreUtil.getExistingAdapter(basicFBType, CoverageTracker.class);
+	}
+
+	/**
+	 * Hand on the coverage tracker of a runtime to a copy of this runtime.
+	 *
+	 * @param runtime the runtime
+	 * @param copy    the copy of the runtime
+	 */
+	public static void transfer(final FBRuntimeAbstract runtime, final FBRuntimeAbstract copy) {
+		if (runtime instanceof final BasicFBTypeRuntime basicRuntime
+				&& copy instanceof final BasicFBTypeRuntime basicCopy) {
+			final CoverageTracker tracker = getExisting(basicRuntime.getBasicfbtype());
+			if (tracker != null && getExisting(basicCopy.getBasicfbtype()) == null) {
+				basicCopy.getBasicfbtype().eAdapters().add(tracker);
+			}
+		}
+	}
+
+	/**
+	 * Record a fired transition.
+	 *
+	 * @param transition the fired transition
+	 */
+	public void visit(final ECTransition transition) {
+		final Integer stateId = stateIds.get(transition.getDestination().getName());
+		if (stateId != null) {
+			visitedStates.set(stateId.intValue());
+		}
+		final Integer pathId = pathIds.get(getPath(transition));
+		if (pathId != null) {
+			visitedPaths.set(pathId.intValue());
+		}
+	}
+
+	/**
+	 * Add the visited states and paths of another tracker of the same ECC (e.g.,
+	 * to get the coverage of a test suite).
+	 *
+	 * @param other the coverage tracker to be merged
+	 */
+	public void merge(final CoverageTracker other) {
+		visitedStates.or(other.visitedStates);
+		visitedPaths.or(other.visitedPaths);
+	}
+
+	public void reset() {
+		visitedStates.clear();
+		visitedPaths.clear();
+	}
+
+	public float getStateCoverage() {
+		return visitedStates.cardinality() / (float) stateIds.size();
+	}
+
+	public float getPathCoverage() {
+		return visitedPaths.cardinality() / (float) pathCount;
+	}
+
+	private static List<String> getPath(final ECTransition transition) {
+		return List.of(transition.getSource().getName(), transition.getDestination().getName());
+	}
+
+	@Override
+	public boolean isAdapterForType(final Object type) {
+		return type == CoverageTracker.class;
+	}
+}
@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Fabio Gandolfi - initial API and implementation and/or initial documentation
+ *   agent - restore the input runtimes before saving
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter.api;
 
@@ -24,6 +25,7 @@
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
+import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
 
@@ -43,6 +45,7 @@ public static void saveEventManagerToFile(final FBType fbtype, final EventManage
 		final URI uri = URI.createPlatformResourceURI(file.getFullPath().toString(), true);
 		final Resource res = reset.createResource(uri);
 
+		EventManagerUtils.restoreInputRuntimes(evntMngr);
 		res.getContents().add(evntMngr);
 		reset.getResources().add(fbtype.eResource());
 		try {
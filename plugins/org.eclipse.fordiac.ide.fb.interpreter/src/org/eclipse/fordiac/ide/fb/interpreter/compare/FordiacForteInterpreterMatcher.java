@@ -69,12 +69,12 @@ private static void matchRuntime(final Set<Match> matches, final EObject leftEOb
 		if (match != null) {
 			// This is to check if this object is an FBRuntime or FBResult
 			final EStructuralFeature structFeat = leftEObject.eContainingFeature();
-			if (structFeat.getFeatureID() == OperationalSemanticsPackage.EVENT_OCCURRENCE__FB_RUNTIME) {
-				if(leftEObject.eClass().equals(((EventOccurrence) match.getRight()).getFbRuntime().eClass())) 
-					createMatch(leftEObject, ((EventOccurrence) match.getRight()).getFbRuntime(), matches);
-			} else {
-				if(leftEObject.eClass().equals(((EventOccurrence) match.getRight()).getResultFBRuntime().eClass())) 
-					createMatch(leftEObject, ((EventOccurrence) match.getRight()).getResultFBRuntime(), matches);
+			final EventOccurrence rightEo = (EventOccurrence) match.getRight();
+			final FBRuntimeAbstract rightRuntime = structFeat
+					.getFeatureID() == OperationalSemanticsPackage.EVENT_OCCURRENCE__FB_RUNTIME ? rightEo.getFbRuntime()
+							: rightEo.getResultFBRuntime();
+			if (rightRuntime != null && leftEObject.eClass().equals(rightRuntime.eClass())) {
+				createMatch(leftEObject, rightRuntime, matches);
 			}
 		}		
 	}
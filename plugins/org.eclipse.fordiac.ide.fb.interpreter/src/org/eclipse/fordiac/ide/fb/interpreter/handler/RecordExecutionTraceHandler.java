@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Bianca Wiesmayr - initial API and implementation and/or initial documentation
+ *   agent - restore the input runtimes before saving
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter.handler;
 
@@ -31,6 +32,7 @@
 import org.eclipse.fordiac.ide.fb.interpreter.Messages;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
 import org.eclipse.fordiac.ide.fb.interpreter.api.EventManagerFactory;
+import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
 import org.eclipse.fordiac.ide.model.libraryElement.AutomationSystem;
 import org.eclipse.fordiac.ide.model.libraryElement.Event;
 import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
@@ -63,6 +65,7 @@ public Object execute(final ExecutionEvent event) throws ExecutionException {
 		final EventManager manager = EventManagerFactory.createFrom(triggerEvent,
 				EcoreUtil.copy(triggerEvent.getFBNetworkElement().getFbNetwork()));
 		manager.processNetwork();
+		EventManagerUtils.restoreInputRuntimes(manager);
 
 		// serialize event manager
 		final ResourceSet reset = new ResourceSetImpl();
@@ -10,21 +10,27 @@
  * Contributors:
  *   Paul Pavlicek
  *     - initial API and implementation and/or initial documentation
+ *   agent - parallel fitness evaluation and seedable event selection
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter.inputgenerator;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventOccurrence;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBTransaction;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.Transaction;
+import org.eclipse.fordiac.ide.fb.interpreter.api.EventManagerFactory;
 import org.eclipse.fordiac.ide.fb.interpreter.api.EventOccFactory;
+import org.eclipse.fordiac.ide.fb.interpreter.api.RuntimeFactory;
+import org.eclipse.fordiac.ide.fb.interpreter.api.TransactionFactory;
+import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 
 public abstract class AbstractGeneticInputGenerator {
@@ -52,6 +58,9 @@ private enum Mutations {
 	private final List<List<EventOccurrence>> population;
 	private List<List<EventOccurrence>> additionalStartingPop;
 	private final List<Mutations> mutations;
+	/** fitness of the already evaluated candidates, a candidate is never changed
+	 * after it has been added to the population */
+	private final Map<List<EventOccurrence>, Double> fitnessCache = new IdentityHashMap<>();
 	protected final Random random = new Random();
 	protected FBType type;
 
@@ -62,6 +71,15 @@ protected AbstractGeneticInputGenerator(final FBType type) {
 		parentCount = 2;
 	}
 
+	/** Seed the random number generator used for generating, mutating, and crossing
+	 * over the event sequences. As the fitness evaluation does not use any random
+	 * values, the result of a run only depends on the seed.
+	 *
+	 * @param seed the seed */
+	public void setSeed(final long seed) {
+		random.setSeed(seed);
+	}
+
 	public void setMutationCount(final int mutationCount) {
 		this.mutationCount = mutationCount;
 	}
@@ -127,8 +145,37 @@ public static void printList(final List<EventOccurrence> parent) {
 		parent.forEach(eo -> System.out.print(eo.getEvent().getName() + " -> ")); //$NON-NLS-1$
 	}
 
+	/** Calculate the fitness of a candidate.
+	 *
+	 * The candidates of a population are evaluated in parallel. The first event
+	 * occurrence of the candidate already holds a fresh runtime of its own copy of
+	 * the FB type, which can be executed with {@link #executeCandidate(List)}.
+	 *
+	 * @param candidate the event sequence to be evaluated
+	 * @return the fitness of the candidate, higher is better */
 	protected abstract double calculateFitness(final List<EventOccurrence> candidate);
 
+	protected static EventManager executeCandidate(final List<EventOccurrence> candidate) {
+		final List<FBTransaction> transactions = TransactionFactory.createFrom(candidate);
+		final EventManager eventManager = EventManagerFactory.createFrom(transactions);
+		EventManagerUtils.process(eventManager);
+		return eventManager;
+	}
+
+	/** Copy the events of a sequence without the runtimes of previous evaluations.
+	 *
+	 * @param sequence the event sequence
+	 * @return new event occurrences for the same events */
+	protected static List<EventOccurrence> copySequence(final List<EventOccurrence> sequence) {
+		final List<EventOccurrence> copy = new ArrayList<>(sequence.size());
+		for (final EventOccurrence eo : sequence) {
+			final EventOccurrence newEo = EventOccFactory.createFrom(eo.getEvent(), null);
+			newEo.setParentFB(eo.getParentFB());
+			copy.add(newEo);
+		}
+		return copy;
+	}
+
 	protected static void refreshSequence(final List<EventOccurrence> newParent) {
 		newParent.forEach(eo -> {
 			eo.setActive(true);
@@ -166,7 +213,7 @@ protected int[] getCrossoverLocation(final List<EventOccurrence> candidate) {
 	}
 
 	protected void mutate(final List<EventOccurrence> candidate, final List<List<EventOccurrence>> append) {
-		final List<EventOccurrence> mutant = (List<EventOccurrence>) EcoreUtil.copyAll(candidate);
+		final List<EventOccurrence> mutant = copySequence(candidate);
 		final int rand = random.nextInt(4);
 		switch (rand) {
 		case 0:
@@ -190,7 +237,7 @@ protected void mutate(final List<EventOccurrence> candidate, final List<List<Eve
 	// addEvent is only of use when no crossover is not used (crossover changes the
 	// size by more then one)
 	protected void addEvent(final List<EventOccurrence> mutant) {
-		mutant.addAll(EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1), null));
+		mutant.addAll(EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1, random), null));
 	}
 
 	// addEvent is only of use when no crossover is not used (crossover changes the
@@ -214,10 +261,10 @@ protected void deleteEvent(final List<EventOccurrence> mutant) {
 		final int pos = random.nextInt(mutant.size());
 		final List<EventOccurrence> newMutant = new ArrayList<>();
 		if (pos > 1) {
-			newMutant.addAll(EcoreUtil.copyAll(mutant.subList(0, pos)));
+			newMutant.addAll(copySequence(mutant.subList(0, pos)));
 		}
 		if (pos + 1 < mutant.size()) {
-			newMutant.addAll(EcoreUtil.copyAll(mutant.subList(pos + 1, mutant.size())));
+			newMutant.addAll(copySequence(mutant.subList(pos + 1, mutant.size())));
 		}
 		mutant.clear();
 		mutant.addAll(newMutant);
@@ -225,21 +272,21 @@ protected void deleteEvent(final List<EventOccurrence> mutant) {
 
 	protected void insertEvent(final List<EventOccurrence> mutant) {
 		final int pos = random.nextInt(mutant.size());
-		mutant.add(pos, EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1), null).get(0));
+		mutant.add(pos, EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1, random), null).get(0));
 	}
 
 	protected void replaceEvent(final List<EventOccurrence> mutant) {
 		final int pos = random.nextInt(mutant.size());
 		final String name = mutant.get(pos).getEvent().getName();
 		mutant.remove(pos);
-		List<EventOccurrence> eventocc = EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1),
+		List<EventOccurrence> eventocc = EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1, random),
 				null);
 		while (name.equals(eventocc.get(0).getEvent().getName())) {
 			eventocc.clear();
-			eventocc = EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1), null);
+			eventocc = EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1, random), null);
 
 		}
-		mutant.addAll(pos, EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1), null));
+		mutant.addAll(pos, EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, 1, random), null));
 	}
 
 	protected void sort(final List<List<EventOccurrence>> original) {
@@ -269,13 +316,37 @@ private static int compareLists(final Map<List<EventOccurrence>, Double> fitlist
 	}
 
 	private Map<List<EventOccurrence>, Double> calculateFitnessAll(final List<List<EventOccurrence>> candidates) {
-		final Map<List<EventOccurrence>, Double> fitnessMap = new HashMap<>();
+		// only keep the fitness of candidates still in the population
+		final Map<List<EventOccurrence>, Double> fitnessMap = new IdentityHashMap<>();
+		final List<List<EventOccurrence>> pending = new ArrayList<>();
 		for (final List<EventOccurrence> sequence : candidates) {
-			fitnessMap.put(sequence, Double.valueOf(calculateFitness(sequence)));
+			final Double fitness = fitnessCache.get(sequence);
+			if (fitness != null) {
+				fitnessMap.put(sequence, fitness);
+			} else if (!fitnessMap.containsKey(sequence)) {
+				fitnessMap.put(sequence, null);
+				prepareCandidate(sequence);
+				pending.add(sequence);
+			}
+		}
+		final double[] fitness = pending.parallelStream().mapToDouble(this::calculateFitness).toArray();
+		for (int i = 0; i < fitness.length; i++) {
+			fitnessMap.put(pending.get(i), Double.valueOf(fitness[i]));
 		}
+		fitnessCache.clear();
+		fitnessCache.putAll(fitnessMap);
 		return fitnessMap;
 	}
 
+	// the runtime takes ownership of the type, therefore every candidate gets its
+	// own copy, which has to be created before the parallel evaluation
+	private void prepareCandidate(final List<EventOccurrence> candidate) {
+		candidate.forEach(eo -> eo.setResultFBRuntime(null));
+		if (!candidate.isEmpty()) {
+			candidate.get(0).setFbRuntime(RuntimeFactory.createFrom(EcoreUtil.copy(type)));
+		}
+	}
+
 	private void setupPopulation() {
 		if (additionalStartingPop != null) {
 			final int addPopSize = additionalStartingPop.size();
@@ -287,20 +358,20 @@ private void setupPopulation() {
 			} else {
 				for (int i = addPopSize; i < parentCount; i++) {
 					population.add(EventOccFactory
-							.createFrom(InputGenerator.getRandomEventsSequence(type, initialLength), null));
+							.createFrom(InputGenerator.getRandomEventsSequence(type, initialLength, random), null));
 				}
 			}
 		} else {
 			for (int i = 0; i < parentCount; i++) {
 				population.add(
-						EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, initialLength), null));
+						EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, initialLength, random), null));
 			}
 		}
 	}
 
 	@SuppressWarnings("incomplete-switch")
 	private void mutate(final List<EventOccurrence> candidate) {
-		final List<EventOccurrence> mutant = (List<EventOccurrence>) EcoreUtil.copyAll(candidate);
+		final List<EventOccurrence> mutant = copySequence(candidate);
 		for (int i = 0; i < mutationCount; i++) {
 			final int rand = random.nextInt(mutations.size());
 			switch (mutations.get(rand)) {
@@ -357,14 +428,12 @@ private void makeCrossover(final List<List<EventOccurrence>> parents, final int
 
 	private void crossover(final List<EventOccurrence> parentA, final List<EventOccurrence> parentB,
 			final List<List<EventOccurrence>> append) {
-		final List<EventOccurrence> crossA = (List<EventOccurrence>) EcoreUtil.copyAll(parentA);
-		final List<EventOccurrence> crossB = (List<EventOccurrence>) EcoreUtil.copyAll(parentB);
+		final List<EventOccurrence> crossA = copySequence(parentA);
+		final List<EventOccurrence> crossB = copySequence(parentB);
 		final int[] locationA = getCrossoverLocation(parentA);
 		final int[] locationB = getCrossoverLocation(parentB);
-		final List<EventOccurrence> crossSectionA = (List<EventOccurrence>) EcoreUtil
-				.copyAll(crossA.subList(locationA[0], locationA[1]));
-		final List<EventOccurrence> crossSectionB = (List<EventOccurrence>) EcoreUtil
-				.copyAll(crossB.subList(locationB[0], locationB[1]));
+		final List<EventOccurrence> crossSectionA = copySequence(crossA.subList(locationA[0], locationA[1]));
+		final List<EventOccurrence> crossSectionB = copySequence(crossB.subList(locationB[0], locationB[1]));
 		append.add(setCrossoverSequence(locationA[0], locationA[1], crossSectionB, crossA));
 		append.add(setCrossoverSequence(locationB[0], locationB[1], crossSectionA, crossB));
 
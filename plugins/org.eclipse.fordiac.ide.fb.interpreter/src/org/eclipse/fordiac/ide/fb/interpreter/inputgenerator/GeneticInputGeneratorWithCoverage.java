@@ -10,19 +10,16 @@
  * Contributors:
  *   Paul Pavlicek
  *     - initial API and implementation and/or initial documentation
+ *   agent - parallel fitness evaluation, incremental coverage tracking
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter.inputgenerator;
 
 import java.util.List;
 
-import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.BasicFBTypeRuntime;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventOccurrence;
-import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBRuntimeAbstract;
-import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBTransaction;
-import org.eclipse.fordiac.ide.fb.interpreter.api.EventManagerFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.api.RuntimeFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.api.TransactionFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
+import org.eclipse.fordiac.ide.fb.interpreter.api.CoverageCalculator;
+import org.eclipse.fordiac.ide.fb.interpreter.api.CoverageTracker;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 
 public class GeneticInputGeneratorWithCoverage extends AbstractGeneticInputGenerator {
@@ -36,13 +33,12 @@ protected double calculateFitness(final List<EventOccurrence> candidate) {
 		if (candidate.isEmpty()) {
 			return Double.NEGATIVE_INFINITY;
 		}
-		final FBRuntimeAbstract rt = RuntimeFactory.createFrom(type);
-		candidate.get(0).setFbRuntime(rt);
-		final List<FBTransaction> transactions = TransactionFactory.createFrom(candidate);
-		final EventManager eventManager = EventManagerFactory.createFrom(transactions);
-		EventManagerUtils.process(eventManager);
-		return org.eclipse.fordiac.ide.fb.interpreter.api.CoverageCalculator
-				.calculateCoverageOfSequence(eventManager.getTransactions(), type);
+		if (!(candidate.get(0).getFbRuntime() instanceof final BasicFBTypeRuntime runtime)) {
+			return -1;
+		}
+		final CoverageTracker tracker = CoverageTracker.attach(runtime.getBasicfbtype());
+		executeCandidate(candidate);
+		return CoverageCalculator.calculateCoverageOfSequence(tracker);
 	}
 
 }
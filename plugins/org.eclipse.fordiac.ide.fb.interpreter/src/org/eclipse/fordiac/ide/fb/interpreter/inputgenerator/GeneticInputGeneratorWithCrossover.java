@@ -10,29 +10,26 @@
  * Contributors:
  *   Paul Pavlicek
  *     - initial API and implementation and/or initial documentation
+ *   agent - parallel fitness evaluation
+ *         - create the initial population when the algorithm is run
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter.inputgenerator;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventOccurrence;
-import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBRuntimeAbstract;
-import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBTransaction;
-import org.eclipse.fordiac.ide.fb.interpreter.api.EventManagerFactory;
 import org.eclipse.fordiac.ide.fb.interpreter.api.EventOccFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.api.RuntimeFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.api.TransactionFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 
 public class GeneticInputGeneratorWithCrossover extends AbstractGeneticInputGenerator {
 	private static final int MAX_ITERATION_DEFAULT = 11;
 	private static final int TERMINATION_COUNT_DEFAULT = 4;
 	private int parentCount;
+	private final int initialLength;
 	private final List<List<EventOccurrence>> best;
+	private boolean populationCreated = false;
 
 	public GeneticInputGeneratorWithCrossover(final FBType type, final int initialLength) {
 		this(type, initialLength, 2);
@@ -41,14 +38,12 @@ public GeneticInputGeneratorWithCrossover(final FBType type, final int initialLe
 	public GeneticInputGeneratorWithCrossover(final FBType type, final int initialLength, final int parentCount) {
 		super(type);
 		best = new ArrayList<>();
+		this.initialLength = initialLength;
 		if (parentCount < 2) {
 			this.parentCount = 2;
 		} else {
 			this.parentCount = parentCount;
 		}
-		for (int i = 0; i < parentCount; i++) {
-			best.add(EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, initialLength), null));
-		}
 	}
 
 	@Override
@@ -63,6 +58,7 @@ public List<EventOccurrence> runAlgorithm(final int maxIterations,
 	}
 
 	public List<EventOccurrence> runAlgorithm(final int maxIterations) {
+		setupPopulation();
 		int count = 0;
 		do {
 			makeCrossover(best, parentCount);
@@ -77,6 +73,7 @@ public List<EventOccurrence> runAlgorithm(final boolean terminationCondition, fi
 		if (!terminationCondition) {
 			return runAlgorithm();
 		}
+		setupPopulation();
 		final List<EventOccurrence> oldbest = new ArrayList<>();
 		oldbest.addAll(best.get(0));
 		int termination = 0;
@@ -100,6 +97,18 @@ public List<EventOccurrence> runAlgorithm(final boolean terminationCondition) {
 		return runAlgorithm(terminationCondition, TERMINATION_COUNT_DEFAULT);
 	}
 
+	// the random sequences are only created when the algorithm is run, so that
+	// they already depend on the seed set after construction
+	private void setupPopulation() {
+		if (!populationCreated) {
+			for (int i = 0; i < parentCount; i++) {
+				best.add(i, EventOccFactory.createFrom(InputGenerator.getRandomEventsSequence(type, initialLength, random),
+						null));
+			}
+			populationCreated = true;
+		}
+	}
+
 	private void makeCrossover(final List<List<EventOccurrence>> parents, final int parentCount) {
 		for (int i = 0; i < parentCount; i++) {
 			for (int j = i + 1; j < parentCount; j++) {
@@ -110,14 +119,12 @@ private void makeCrossover(final List<List<EventOccurrence>> parents, final int
 
 	private void crossover(final List<EventOccurrence> parentA, final List<EventOccurrence> parentB,
 			final List<List<EventOccurrence>> append) {
-		final List<EventOccurrence> crossA = (List<EventOccurrence>) EcoreUtil.copyAll(parentA);
-		final List<EventOccurrence> crossB = (List<EventOccurrence>) EcoreUtil.copyAll(parentB);
+		final List<EventOccurrence> crossA = copySequence(parentA);
+		final List<EventOccurrence> crossB = copySequence(parentB);
 		final int[] locationA = getCrossoverLocation(parentA);
 		final int[] locationB = getCrossoverLocation(parentB);
-		final List<EventOccurrence> crossSectionA = (List<EventOccurrence>) EcoreUtil
-				.copyAll(crossA.subList(locationA[0], locationA[1]));
-		final List<EventOccurrence> crossSectionB = (List<EventOccurrence>) EcoreUtil
-				.copyAll(crossB.subList(locationB[0], locationB[1]));
+		final List<EventOccurrence> crossSectionA = copySequence(crossA.subList(locationA[0], locationA[1]));
+		final List<EventOccurrence> crossSectionB = copySequence(crossB.subList(locationB[0], locationB[1]));
 		append.add(setCrossoverSequence(locationA[0], locationA[1], crossSectionB, crossA));
 		append.add(setCrossoverSequence(locationB[0], locationB[1], crossSectionA, crossB));
 
@@ -128,11 +135,7 @@ protected double calculateFitness(final List<EventOccurrence> candidate) {
 		if (candidate.isEmpty()) {
 			return Double.NEGATIVE_INFINITY;
 		}
-		final FBRuntimeAbstract rt = RuntimeFactory.createFrom(type);
-		candidate.get(0).setFbRuntime(rt);
-		final List<FBTransaction> transactions = TransactionFactory.createFrom(candidate);
-		final EventManager eventManager = EventManagerFactory.createFrom(transactions);
-		EventManagerUtils.process(eventManager);
+		final EventManager eventManager = executeCandidate(candidate);
 		final int outputEOs = countOutputEventOccurrences(eventManager.getTransactions());
 		return ((double) outputEOs) / eventManager.getTransactions().size();
 
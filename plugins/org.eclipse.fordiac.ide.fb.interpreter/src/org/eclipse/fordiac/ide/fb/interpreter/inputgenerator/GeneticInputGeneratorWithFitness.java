@@ -10,6 +10,7 @@
  * Contributors:
  *   Paul Pavlicek
  *     - initial API and implementation and/or initial documentation
+ *   agent - parallel fitness evaluation
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter.inputgenerator;
 
@@ -17,12 +18,6 @@
 
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventOccurrence;
-import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBRuntimeAbstract;
-import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBTransaction;
-import org.eclipse.fordiac.ide.fb.interpreter.api.EventManagerFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.api.RuntimeFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.api.TransactionFactory;
-import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 
 public class GeneticInputGeneratorWithFitness extends AbstractGeneticInputGenerator {
@@ -36,12 +31,7 @@ protected double calculateFitness(final List<EventOccurrence> candidate) {
 		if (candidate.isEmpty()) {
 			return Double.NEGATIVE_INFINITY;
 		}
-
-		final FBRuntimeAbstract rt = RuntimeFactory.createFrom(type);
-		candidate.get(0).setFbRuntime(rt);
-		final List<FBTransaction> transactions = TransactionFactory.createFrom(candidate);
-		final EventManager eventManager = EventManagerFactory.createFrom(transactions);
-		EventManagerUtils.process(eventManager);
+		final EventManager eventManager = executeCandidate(candidate);
 		final int outputEOs = countOutputEventOccurrences(eventManager.getTransactions());
 		return ((double) outputEOs) / eventManager.getTransactions().size();
 	}
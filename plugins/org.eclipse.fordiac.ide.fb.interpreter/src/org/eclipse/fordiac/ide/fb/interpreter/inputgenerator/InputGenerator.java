@@ -10,6 +10,7 @@
  * Contributors:
  *   Paul Pavlicek
  *     - initial API and implementation and/or initial documentation
+ *   agent - event sequences from a given random number generator
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter.inputgenerator;
 
@@ -55,7 +56,25 @@ public static List<Event> getRandomEventsSequence(final FBType fb, final int cou
 		return createRandomEventSequence(fb.getInterfaceList().getEventInputs(), count);
 	}
 
+	/** This method generates a sequence of input events for a given FB type using the given random number generator.
+	 *
+	 * @param fb          The FB type for which the input sequence is generated
+	 * @param count       The number of generated input events
+	 * @param eventRandom The random number generator used to select the events
+	 * @return A list of events of length count */
+	public static List<Event> getRandomEventsSequence(final FBType fb, final int count, final Random eventRandom) {
+		if (fb == null || count == 0) {
+			throw new IllegalArgumentException();
+		}
+		return createRandomEventSequence(fb.getInterfaceList().getEventInputs(), count, eventRandom);
+	}
+
 	private static List<Event> createRandomEventSequence(final EList<Event> fbEvents, final int count) {
+		return createRandomEventSequence(fbEvents, count, random);
+	}
+
+	private static List<Event> createRandomEventSequence(final EList<Event> fbEvents, final int count,
+			final Random eventRandom) {
 		if ((fbEvents.isEmpty()) || count == 0) {
 			throw new IllegalArgumentException();
 		}
@@ -63,7 +82,7 @@ private static List<Event> createRandomEventSequence(final EList<Event> fbEvents
 		final List<Event> randomEvents = new ArrayList<>();
 		final int numberPossibleEvents = fbEvents.size();
 		for (int i = 0; i < count; i++) {
-			final Event randomEvent = fbEvents.get(random.nextInt(numberPossibleEvents));
+			final Event randomEvent = fbEvents.get(eventRandom.nextInt(numberPossibleEvents));
 			randomEvents.add(randomEvent);
 		}
 		return randomEvents;
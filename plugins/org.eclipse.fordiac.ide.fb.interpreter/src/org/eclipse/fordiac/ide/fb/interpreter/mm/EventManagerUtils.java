@@ -11,6 +11,8 @@
  *   Antonio Garmend�a, Bianca Wiesmayr
  *       - initial implementation and/or documentation
  *   Paul Pavlicek - cleanup
+ *   agent - hand on coverage trackers and evaluators to runtime copies,
+ *           process transactions on the result of their previous one
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fb.interpreter.mm;
 
@@ -22,11 +24,13 @@
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.fb.interpreter.CachedFBEvaluator;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventOccurrence;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBRuntimeAbstract;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBTransaction;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.Transaction;
+import org.eclipse.fordiac.ide.fb.interpreter.api.CoverageTracker;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
 import org.eclipse.fordiac.ide.model.libraryElement.Value;
@@ -45,14 +49,47 @@ public static void process(final EventManager eventManager) {
 			if (transaction instanceof final FBTransaction fbtransaction) {
 				fbtransaction.process();
 				if (moreTransactionsLeft(transactions, i)) {
-					final FBRuntimeAbstract newfbRuntime = getLatestFbRuntime(fbtransaction);
-					// use fb runtime in the next transaction
-					transactions.get(i + 1).getInputEventOccurrence().setFbRuntime(EcoreUtil.copy(newfbRuntime));
+					continueWith(fbtransaction, transactions.get(i + 1));
 				}
 			}
 		}
 	}
 
+	/**
+	 * Let the next transaction run on a copy of the result of the given
+	 * transaction. The input runtime of the next transaction is the same state
+	 * plus its sampled input variables, so it is not stored while processing (see
+	 * {@link #restoreInputRuntimes(EventManager)}).
+	 */
+	private static void continueWith(final FBTransaction transaction, final Transaction next) {
+		final EventOccurrence nextEo = next.getInputEventOccurrence();
+		nextEo.setFbRuntime(null);
+		nextEo.setResultFBRuntime(copyRuntime(getLatestFbRuntime(transaction)));
+	}
+
+	/**
+	 * Create the input runtimes of the transactions which were processed on the
+	 * result of their previous transaction, e.g., before a trace is saved or
+	 * compared.
+	 *
+	 * @param eventManager the processed event manager
+	 */
+	public static void restoreInputRuntimes(final EventManager eventManager) {
+		final var transactions = eventManager.getTransactions();
+		for (var i = 1; i < transactions.size(); i++) {
+			final EventOccurrence eo = transactions.get(i).getInputEventOccurrence();
+			if (eo != null && eo.getFbRuntime() == null
+					&& transactions.get(i - 1) instanceof final FBTransaction previous
+					&& getLatestFbRuntime(previous) != null) {
+				final FBRuntimeAbstract inputRuntime = EcoreUtil.copy(getLatestFbRuntime(previous));
+				if (transactions.get(i) instanceof final FBTransaction fbtransaction) {
+					setInputVariables(fbtransaction, inputRuntime);
+				}
+				eo.setFbRuntime(inputRuntime);
+			}
+		}
+	}
+
 	public static FBRuntimeAbstract getLatestFbRuntime(final FBTransaction transaction) {
 		return transaction.getInputEventOccurrence().getResultFBRuntime();
 	}
@@ -62,13 +99,10 @@ private static boolean moreTransactionsLeft(final EList<Transaction> transaction
 	}
 
 	public static void processFbTransaction(final FBTransaction transaction) {
-		// set the input vars
-		for (final var inputVar : transaction.getInputVariables()) {
-			final var element = transaction.getInputEventOccurrence().getFbRuntime().getModel();
-			if (element instanceof final FBType fbtype) {
-				setInputVariable(inputVar, fbtype);
-			}
-		}
+		// set the input vars on the runtime to be run
+		final EventOccurrence eo = transaction.getInputEventOccurrence();
+		setInputVariables(transaction,
+				eo.getResultFBRuntime() != null ? eo.getResultFBRuntime() : eo.getFbRuntime());
 		final var result = processEventOccurrence(transaction.getInputEventOccurrence());
 		transaction.getOutputEventOccurrences().addAll(result);
 	}
@@ -77,12 +111,27 @@ private static List<EventOccurrence> processEventOccurrence(final EventOccurrenc
 		final FBRuntimeAbstract runtime = eo.getFbRuntime();
 		FBRuntimeAbstract resultRuntime = eo.getResultFBRuntime();
 		if (resultRuntime == null) {
-			resultRuntime = EcoreUtil.copy(runtime);
+			resultRuntime = copyRuntime(runtime);
 			eo.setResultFBRuntime(resultRuntime);
 		}
 		return resultRuntime.run();
 	}
 
+	private static FBRuntimeAbstract copyRuntime(final FBRuntimeAbstract runtime) {
+		final FBRuntimeAbstract copy = EcoreUtil.copy(runtime);
+		CoverageTracker.transfer(runtime, copy);
+		CachedFBEvaluator.transfer(runtime, copy);
+		return copy;
+	}
+
+	private static void setInputVariables(final FBTransaction transaction, final FBRuntimeAbstract runtime) {
+		for (final var inputVar : transaction.getInputVariables()) {
+			if (runtime.getModel() instanceof final FBType fbtype) {
+				setInputVariable(inputVar, fbtype);
+			}
+		}
+	}
+
 	private static void setInputVariable(final VarDeclaration inputVar, final FBType type) {
 		if (null != inputVar) {
 			final var pin = type.getInterfaceList().getInterfaceElement(inputVar.getName());
@@ -103,15 +152,14 @@ public static void processNetwork(final EventManager eventManager) {
 				fbtransaction.getOutputEventOccurrences()
 						.forEach(outputEO -> eventManager.getTransactions().addAll(outputEO.getCreatedTransactions()));
 				if (moreTransactionsLeft(transactions, i)) {
-					final FBRuntimeAbstract newfbRuntime = getLatestFbRuntime(fbtransaction);
-					// use fb network runtime in the next transaction
-					transactions.get(i + 1).getInputEventOccurrence().setFbRuntime(EcoreUtil.copy(newfbRuntime));
+					continueWith(fbtransaction, transactions.get(i + 1));
 				}
 			}
 		}
 	}
 
 	public static Resource addResourceToManager(final EventManager eventManager, final URI uri) {
+		restoreInputRuntimes(eventManager);
 		final ResourceSet reset = new ResourceSetImpl();
 		final Resource res = reset.createResource(uri);
 		res.getContents().add(eventManager);
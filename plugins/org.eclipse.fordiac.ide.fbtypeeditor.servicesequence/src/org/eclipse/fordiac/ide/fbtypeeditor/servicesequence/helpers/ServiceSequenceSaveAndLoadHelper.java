@@ -10,6 +10,7 @@
  * Contributors:
  *   Fabio Gandolfi
  *     - initial API and implementation and/or initial documentation
+ *   agent - restore the input runtimes before saving
  *******************************************************************************/
 package org.eclipse.fordiac.ide.fbtypeeditor.servicesequence.helpers;
 
@@ -28,6 +29,7 @@
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
+import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
 import org.eclipse.fordiac.ide.model.libraryElement.FBType;
 import org.eclipse.fordiac.ide.model.libraryElement.ServiceSequence;
 import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
@@ -79,6 +81,11 @@ private static void saveServiceSequenceToFile(final FBType fbtype, final List<Se
 		final URI uri = URI.createPlatformResourceURI(file.getFullPath().toString(), true);
 		final Resource res = reset.createResource(uri);
 
+		seqs.forEach(seq -> {
+			if (seq.getEventManager() instanceof final EventManager evntMngr) {
+				EventManagerUtils.restoreInputRuntimes(evntMngr);
+			}
+		});
 		res.getContents().addAll(seqs);
 		reset.getResources().add(fbtype.eResource());
 		try {
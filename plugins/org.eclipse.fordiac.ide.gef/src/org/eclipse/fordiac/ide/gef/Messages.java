@@ -109,6 +109,7 @@ public final class Messages extends NLS {
 	public static String PrintPreview_LABEL_Tile;
 	public static String SetProfileCommand_LABEL_SetProfile;
 
+	public static String ValidationJob_ValidationFailed;
 	public static String ValidationJob_ValidationJobName;
 
 	public static String VariableDialog_DefaultTitle;
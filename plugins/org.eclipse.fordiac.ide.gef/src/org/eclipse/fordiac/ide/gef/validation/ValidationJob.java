@@ -9,6 +9,10 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent        - validate in a background job and only update the
+ *                  annotations in the UI thread
+ *   agent        - validate again after failures caused by changes outside
+ *                  of the command stack
  *******************************************************************************/
 package org.eclipse.fordiac.ide.gef.validation;
 
@@ -22,6 +26,7 @@
 import java.util.Spliterators;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -30,6 +35,7 @@
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.ProgressProvider;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.ecore.EObject;
@@ -39,24 +45,48 @@
 import org.eclipse.fordiac.ide.gef.annotation.GraphicalAnnotationModel;
 import org.eclipse.fordiac.ide.model.commands.ScopedCommand;
 import org.eclipse.fordiac.ide.model.errormarker.FordiacMarkerHelper;
+import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
 import org.eclipse.gef.commands.Command;
 import org.eclipse.gef.commands.CommandStack;
 import org.eclipse.gef.commands.CommandStackEvent;
 import org.eclipse.gef.commands.CommandStackEventListener;
 import org.eclipse.gef.commands.CompoundCommand;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.progress.IProgressService;
-import org.eclipse.ui.progress.UIJob;
 
-public class ValidationJob extends UIJob {
+/**
+ * Validate the elements changed by the commands of an editor.
+ *
+ * The validation runs in a background job while the model is only changed in
+ * the UI thread by the commands of the command stack. A validation that
+ * overlapped with a change of the model (i.e., a command or a reset) is
+ * discarded and the validated elements are queued again, so that only results
+ * of a consistent model state are shown. Only the resulting update of the
+ * annotation model is done in the UI thread.
+ *
+ * The model may also be changed without the command stack (e.g., by reloading
+ * a type). A validation failing with a runtime exception is therefore
+ * considered stale and done again once before the exception is passed on.
+ */
+public class ValidationJob extends Job {
 
 	private static final long DELAY = 500; // in milliseconds
 
+	private record AnnotationUpdate(Set<GraphicalAnnotation> add, Set<GraphicalAnnotation> remove) {
+	}
+
 	private final CommandStack commandStack;
 	private final GraphicalAnnotationModel annotationModel;
 	private final ValidationCommandStackEventListener commandStackEventListener = new ValidationCommandStackEventListener();
 	private final BlockingQueue<EObject> queue = new LinkedBlockingQueue<>();
-	private boolean enabled = true;
+	/** counts the changes of the model, only modified in the UI thread */
+	private final AtomicLong modificationCount = new AtomicLong();
+	/** counts the resets of the annotations, only modified in the UI thread */
+	private final AtomicLong resetCount = new AtomicLong();
+	/** whether the last validation failed, only accessed by the job */
+	private boolean failed;
+	private volatile boolean enabled = true;
 
 	public ValidationJob(final String name, final CommandStack commandStack,
 			final GraphicalAnnotationModel annotationModel) {
@@ -67,21 +97,66 @@ public ValidationJob(final String name, final CommandStack commandStack,
 	}
 
 	@Override
-	public IStatus runInUIThread(final IProgressMonitor monitor) {
+	protected IStatus run(final IProgressMonitor monitor) {
+		final long modificationStamp = modificationCount.get();
+		final long resetStamp = resetCount.get();
 		final List<EObject> queued = new ArrayList<>();
 		queue.drainTo(queued);
 		final List<EObject> filtered = EcoreUtil.filterDescendants(queued);
 		try {
 			final CancelableDiagnostician diagnostician = new VariableDiagnostician(monitorFor(monitor));
 			final List<Diagnostic> diagnostics = filtered.stream().map(diagnostician::validate).toList();
-			updateAnnotations(diagnostics, monitor);
+			final AnnotationUpdate update = computeAnnotationUpdate(diagnostics, monitor);
+			final Display display = Display.getDefault();
+			if (!display.isDisposed()) {
+				display.asyncExec(() -> applyAnnotationUpdate(update, filtered, modificationStamp, resetStamp));
+			}
 		} catch (final OperationCanceledException e) {
-			queue.addAll(filtered); // add (filtered) elements back to queue
+			requeue(filtered, resetStamp);
 			return Status.CANCEL_STATUS;
+		} catch (final RuntimeException e) {
+			final boolean modified = modificationStamp != modificationCount.get();
+			if (modified || !failed) {
+				// the model was changed while it was validated, either by a command or by
+				// someone else without the command stack
+				failed = !modified;
+				if (!modified) {
+					// a counted modification schedules the job again anyway and is expected to
+					// disturb the validation, only an unexplained failure is worth a warning
+					FordiacLogHelper.logWarning(MessageFormat.format(Messages.ValidationJob_ValidationFailed, getName()),
+							e);
+				}
+				if (requeue(filtered, resetStamp) && !modified) {
+					schedule(DELAY);
+				}
+				return Status.CANCEL_STATUS;
+			}
+			failed = false;
+			throw e;
 		}
+		failed = false;
 		return Status.OK_STATUS;
 	}
 
+	private void applyAnnotationUpdate(final AnnotationUpdate update, final List<EObject> validated,
+			final long modificationStamp, final long resetStamp) {
+		if (modificationStamp == modificationCount.get()) {
+			annotationModel.updateAnnotations(update.add(), update.remove(), Collections.emptySet());
+		} else if (requeue(validated, resetStamp)) {
+			// the results may not match the changed model, validate again
+			schedule(DELAY);
+		}
+	}
+
+	/** add (filtered) elements back to queue unless the annotations were reset */
+	private boolean requeue(final List<EObject> elements, final long resetStamp) {
+		if (enabled && resetStamp == resetCount.get()) {
+			queue.addAll(elements);
+			return true;
+		}
+		return false;
+	}
+
 	protected static IProgressMonitor monitorFor(final IProgressMonitor monitor) {
 		if (PlatformUI.isWorkbenchRunning()) {
 			final IProgressService progressService = PlatformUI.getWorkbench().getProgressService();
@@ -92,7 +167,8 @@ protected static IProgressMonitor monitorFor(final IProgressMonitor monitor) {
 		return IProgressMonitor.nullSafe(monitor);
 	}
 
-	protected void updateAnnotations(final List<Diagnostic> diagnostics, final IProgressMonitor monitor) {
+	private AnnotationUpdate computeAnnotationUpdate(final List<Diagnostic> diagnostics,
+			final IProgressMonitor monitor) {
 		final Set<GraphicalAnnotation> add = diagnostics.stream().map(Diagnostic::getChildren)
 				.flatMap(Collection::stream).map(GraphicalValidationAnnotation::forDiagnostic).flatMap(Optional::stream)
 				.collect(Collectors.toSet());
@@ -105,7 +181,7 @@ protected void updateAnnotations(final List<Diagnostic> diagnostics, final IProg
 		if (monitor.isCanceled()) {
 			throw new OperationCanceledException();
 		}
-		annotationModel.updateAnnotations(add, remove, Collections.emptySet());
+		return new AnnotationUpdate(add, remove);
 	}
 
 	protected static boolean isValidationAnnotation(final GraphicalAnnotation annotation) {
@@ -116,6 +192,7 @@ protected static boolean isValidationAnnotation(final GraphicalAnnotation annota
 
 	protected void elementsChanged(final Collection<? extends EObject> elements) {
 		if (enabled) {
+			modificationCount.incrementAndGet();
 			queue.addAll(elements);
 			cancel();
 			schedule(DELAY);
@@ -131,6 +208,8 @@ protected void handleCommand(final Command command) {
 	}
 
 	public void reset() {
+		modificationCount.incrementAndGet();
+		resetCount.incrementAndGet();
 		cancel();
 		queue.clear();
 		annotationModel.removeAnnotationIf(GraphicalValidationAnnotation.class::isInstance);
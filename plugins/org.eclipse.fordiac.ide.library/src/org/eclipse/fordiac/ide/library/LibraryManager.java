@@ -9,17 +9,21 @@
  *
  * Contributors:
  *   Patrick Aigner - initial API and implementation and/or initial documentation
+ *   agent - extract library archives in parallel and create the type
+ *           entries from the extracted files
+ *         - archives without directory entries
  *******************************************************************************/
 package org.eclipse.fordiac.ide.library;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
@@ -37,7 +41,7 @@
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.internal.resources.ProjectPathVariableManager;
 import org.eclipse.core.resources.IFile;
@@ -280,32 +284,12 @@ public java.net.URI extractLibrary(final Path path, final IProject project, fina
 		if (path == null || Files.notExists(path)) {
 			return null;
 		}
-		final byte[] buffer = new byte[1024];
-		String folderName;
-		try (InputStream inputStream = Files.newInputStream(path);
-				ZipInputStream zipInputStream = new ZipInputStream(inputStream)) {
-			ZipEntry entry = zipInputStream.getNextEntry();
-			folderName = entry != null ? entry.getName() : ""; //$NON-NLS-1$
-			while (entry != null) {
-				final Path newFile = newPath(LIBRARY_PATH, entry);
-				if (entry.isDirectory()) {
-					if (!Files.isDirectory(newFile)) {
-						Files.createDirectories(newFile);
-					}
-				} else {
-					final Path parent = newFile.getParent();
-					if (!Files.isDirectory(parent)) {
-						Files.createDirectories(parent);
-					}
-					try (OutputStream fileOutputStream = Files.newOutputStream(newFile)) {
-						int len;
-						while ((len = zipInputStream.read(buffer)) > 0) {
-							fileOutputStream.write(buffer, 0, len);
-						}
-					}
-				}
-				entry = zipInputStream.getNextEntry();
-			}
+		final String folderName;
+		final List<Path> extractedFiles;
+		try (ZipFile zipFile = new ZipFile(path.toFile())) {
+			final List<? extends ZipEntry> entries = zipFile.stream().toList();
+			folderName = getFolderName(entries);
+			extractedFiles = extractEntries(zipFile, entries);
 		}
 		checkLibChanges();
 
@@ -313,11 +297,80 @@ public java.net.URI extractLibrary(final Path path, final IProject project, fina
 
 		if (autoImport && project != null) {
 			// Parent's name because we want package-version name when importing
-			importLibrary(project, null, importURI, true, resolve);
+			final Path typeLibPath = LIBRARY_PATH.resolve(folderName).resolve(LIB_TYPELIB_FOLDER_NAME);
+			final List<String> typeLibFiles = extractedFiles.stream().filter(file -> file.startsWith(typeLibPath))
+					.map(file -> typeLibPath.relativize(file).toString().replace('\\', '/')).toList();
+			// scan the typelib folder if the extracted files do not tell the type files
+			importLibrary(project, null, importURI, true, resolve, !typeLibFiles.isEmpty() ? typeLibFiles : null);
 		}
 		return importURI;
 	}
 
+	/**
+	 * Get the name of the library folder of an archive
+	 *
+	 * <p>
+	 * Archives do not need to contain entries for their directories, therefore
+	 * the folder is taken from the first path segment of the first entry.
+	 *
+	 * @param entries the entries of the archive
+	 * @return the folder name including the trailing separator, or an empty
+	 *         string for an empty archive
+	 */
+	private static String getFolderName(final List<? extends ZipEntry> entries) {
+		if (entries.isEmpty()) {
+			return ""; //$NON-NLS-1$
+		}
+		final String name = entries.get(0).getName();
+		final int separator = name.indexOf('/');
+		return separator >= 0 ? name.substring(0, separator + 1) : name;
+	}
+
+	/**
+	 * Extract the entries of a library archive into the library folder
+	 *
+	 * <p>
+	 * All directories are created up front, so that the files can be written in
+	 * parallel. The random access of {@link ZipFile} allows to read the entries
+	 * concurrently.
+	 *
+	 * @param zipFile the library archive
+	 * @param entries the entries of the archive
+	 * @return the paths of the extracted files
+	 * @throws IOException if an I/O error occurs
+	 */
+	private static List<Path> extractEntries(final ZipFile zipFile, final List<? extends ZipEntry> entries)
+			throws IOException {
+		final Map<ZipEntry, Path> files = new HashMap<>();
+		final Set<Path> directories = new HashSet<>();
+		for (final ZipEntry entry : entries) {
+			final Path newFile = newPath(LIBRARY_PATH, entry);
+			if (entry.isDirectory()) {
+				directories.add(newFile);
+			} else {
+				files.put(entry, newFile);
+				directories.add(newFile.getParent());
+			}
+		}
+		for (final Path directory : directories) {
+			if (!Files.isDirectory(directory)) {
+				Files.createDirectories(directory);
+			}
+		}
+		try {
+			files.entrySet().parallelStream().forEach(file -> {
+				try (InputStream inputStream = zipFile.getInputStream(file.getKey())) {
+					Files.copy(inputStream, file.getValue(), StandardCopyOption.REPLACE_EXISTING);
+				} catch (final IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (final UncheckedIOException e) {
+			throw e.getCause();
+		}
+		return List.copyOf(files.values());
+	}
+
 	/**
 	 * Create new {@link Path} for {@link ZipEntry} and ensure it stays in
 	 * {@code destinationDir}
@@ -328,7 +381,7 @@ public java.net.URI extractLibrary(final Path path, final IProject project, fina
 	 * @throws IOException if an I/O error occurs
 	 */
 	private static Path newPath(final Path destinationDir, final ZipEntry zipEntry) throws IOException {
-		final Path destPath = destinationDir.resolve(zipEntry.getName());
+		final Path destPath = destinationDir.resolve(zipEntry.getName()).normalize();
 
 		if (!destPath.startsWith(destinationDir)) {
 			throw new IOException("Entry is outside of the target dir: " + zipEntry.getName()); //$NON-NLS-1$
@@ -349,6 +402,24 @@ private static Path newPath(final Path destinationDir, final ZipEntry zipEntry)
 	 */
 	public void importLibrary(final IProject project, final TypeLibrary typeLibrary, final java.net.URI uri,
 			final boolean update, final boolean resolve) {
+		importLibrary(project, typeLibrary, uri, update, resolve, null);
+	}
+
+	/**
+	 * Import library into {@link IProject}
+	 *
+	 * @param project      target project
+	 * @param typeLibrary  {@link TypeLibrary} to use, will be retrieved through
+	 *                     {@link TypeLibraryManager} if {@code null}
+	 * @param uri          URI of the library folder
+	 * @param update       define if a dependency gets created/updated in the
+	 *                     {@link Manifest}
+	 * @param resolve      define if dependencies should get resolved on import
+	 * @param typeLibFiles paths of the library files relative to the typelib
+	 *                     folder, the typelib folder is scanned if {@code null}
+	 */
+	private void importLibrary(final IProject project, final TypeLibrary typeLibrary, final java.net.URI uri,
+			final boolean update, final boolean resolve, final List<String> typeLibFiles) {
 		boolean imported = false;
 		if (uninitialised) {
 			init(project);
@@ -384,7 +455,11 @@ public void importLibrary(final IProject project, final TypeLibrary typeLibrary,
 								libManifest.getProduct().getVersionInfo().getVersion()));
 				projManifest.eResource().save(null);
 			}
-			createTypeEntriesManually(libDirectory, cachedTypes, typeLib);
+			if (typeLibFiles != null) {
+				typeLibFiles.forEach(file -> createTypeEntry(libDirectory.getFile(file), cachedTypes, typeLib));
+			} else {
+				createTypeEntriesManually(libDirectory, cachedTypes, typeLib);
+			}
 			if (!cachedTypes.isEmpty()) {
 				final List<TypeEntry> affectedTypes = new ArrayList<>(cachedTypes.values());
 				// clean up if there was a version before
@@ -495,14 +570,7 @@ private static void createTypeEntriesManually(final IFolder folder, final Map<St
 		final IResourceVisitor visitor = resource -> (switch (resource) {
 		case final IFolder f -> true;
 		case final IFile file -> {
-			final TypeEntry entry = TypeEntryFactory.INSTANCE.createTypeEntry(file);
-			final TypeEntry oldEntry = cachedTypes.get(entry.getFullTypeName());
-			if (oldEntry != null) {
-				FordiacResourceChangeListener.updateTypeEntry(file, oldEntry);
-				cachedTypes.remove(entry.getFullTypeName());
-			} else {
-				typeLibrary.createTypeEntry(file);
-			}
+			createTypeEntry(file, cachedTypes, typeLibrary);
 			yield false;
 		}
 		default -> false;
@@ -514,6 +582,25 @@ private static void createTypeEntriesManually(final IFolder folder, final Map<St
 		}
 	}
 
+	/**
+	 * Create {@link TypeEntry} for a file of a library
+	 *
+	 * @param file        file in project
+	 * @param cachedTypes old types that need to be replaced
+	 * @param typeLibrary {@link TypeLibrary} to use
+	 */
+	private static void createTypeEntry(final IFile file, final Map<String, TypeEntry> cachedTypes,
+			final TypeLibrary typeLibrary) {
+		final TypeEntry entry = TypeEntryFactory.INSTANCE.createTypeEntry(file);
+		final TypeEntry oldEntry = cachedTypes.get(entry.getFullTypeName());
+		if (oldEntry != null) {
+			FordiacResourceChangeListener.updateTypeEntry(file, oldEntry);
+			cachedTypes.remove(entry.getFullTypeName());
+		} else {
+			typeLibrary.createTypeEntry(file);
+		}
+	}
+
 	/**
 	 * Removes {@link TypeEntry} from library
 	 *
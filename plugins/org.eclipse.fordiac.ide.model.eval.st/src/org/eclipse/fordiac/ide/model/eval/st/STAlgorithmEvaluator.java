@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - use compiled statements if enabled
  */
 package org.eclipse.fordiac.ide.model.eval.st;
 
@@ -64,7 +65,7 @@ protected void evaluateStructuredTextAlgorithm(final STAlgorithm algorithm)
 			throws EvaluatorException, InterruptedException {
 		evaluateCallableVariables(algorithm.getBody().getVarTempDeclarations());
 		try {
-			evaluateStatementList(algorithm.getBody().getStatements());
+			evaluateStatementList(algorithm.getBody(), algorithm.getBody().getStatements());
 		} catch (final StructuredTextException e) {
 			// return
 		}
@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - use compiled statements if enabled
  */
 package org.eclipse.fordiac.ide.model.eval.st;
 
@@ -50,7 +51,7 @@ protected void evaluateStructuredTextFunction(final STFunction function)
 			throws EvaluatorException, InterruptedException {
 		evaluateCallableVariables(function.getVarDeclarations());
 		try {
-			evaluateStatementList(function.getCode());
+			evaluateStatementList(function, function.getCode());
 		} catch (final StructuredTextException e) {
 			// return
 		}
@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - use compiled statements if enabled
  */
 package org.eclipse.fordiac.ide.model.eval.st;
 
@@ -77,7 +78,7 @@ public Value evaluate() throws EvaluatorException, InterruptedException {
 	protected void evaluateStructuredTextMethod(final STMethod method) throws EvaluatorException, InterruptedException {
 		evaluateCallableVariables(method.getBody().getVarDeclarations());
 		try {
-			evaluateStatementList(method.getBody().getStatements());
+			evaluateStatementList(method.getBody(), method.getBody().getStatements());
 		} catch (final StructuredTextException e) {
 			// return
 		}
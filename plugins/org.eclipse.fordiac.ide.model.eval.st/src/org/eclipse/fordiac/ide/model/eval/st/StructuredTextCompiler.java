@@ -0,0 +1,451 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.eval.st;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.model.data.BoolType;
+import org.eclipse.fordiac.ide.model.eval.EvaluatorException;
+import org.eclipse.fordiac.ide.model.eval.st.StructuredTextEvaluator.ContinueException;
+import org.eclipse.fordiac.ide.model.eval.st.StructuredTextEvaluator.ExitException;
+import org.eclipse.fordiac.ide.model.eval.value.BoolValue;
+import org.eclipse.fordiac.ide.model.eval.value.Value;
+import org.eclipse.fordiac.ide.model.eval.value.ValueOperations;
+import org.eclipse.fordiac.ide.model.eval.variable.Variable;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STAssignment;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STBinaryExpression;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STBinaryOperator;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STCaseCases;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STCaseStatement;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STDateAndTimeLiteral;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STDateLiteral;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STElseIfPart;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STElsePart;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STExpression;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STFeatureExpression;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STForStatement;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STIfStatement;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STNumericLiteral;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STRepeatStatement;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STStatement;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STStringLiteral;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STTimeLiteral;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STTimeOfDayLiteral;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STUnaryExpression;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STVarDeclaration;
+import org.eclipse.fordiac.ide.structuredtextcore.stcore.STWhileStatement;
+
+/**
+ * Compiler turning structured text statements into a tree of closures.
+ *
+ * The closures resolve everything that only depends on the AST upfront: the
+ * kind of each statement and expression, operators, literal values, and the
+ * declarations of accessed variables. Executing the compiled form therefore
+ * does not need to dispatch over the AST again. Debugger traps are kept at the
+ * same elements as in the interpreted evaluation. Elements without a compiled
+ * form (e.g., calls) are delegated to the interpreting
+ * {@link StructuredTextEvaluator}.
+ *
+ * The compiled form only refers to the AST and gets the evaluator as an
+ * argument. It is therefore cached at the AST and shared between all
+ * evaluators of the same algorithm, method, or function. Any change of the AST
+ * discards the compiled form.
+ *
+ * Compilation is disabled by default and can be enabled with the system
+ * property {@value #COMPILE_PROPERTY}.
+ */
+final class StructuredTextCompiler {
+
+	static final String COMPILE_PROPERTY = "org.eclipse.fordiac.ide.model.eval.st.compile"; //$NON-NLS-1$
+
+	@FunctionalInterface
+	interface CompiledStatement {
+		void execute(StructuredTextEvaluator evaluator) throws EvaluatorException, InterruptedException;
+	}
+
+	@FunctionalInterface
+	interface CompiledExpression {
+		Value evaluate(StructuredTextEvaluator evaluator) throws EvaluatorException, InterruptedException;
+	}
+
+	@FunctionalInterface
+	private interface CompiledCaseCondition {
+		boolean matches(StructuredTextEvaluator evaluator, Value value)
+				throws EvaluatorException, InterruptedException;
+	}
+
+	private static final CompiledStatement NOP = evaluator -> {
+		// nothing to do
+	};
+
+	static boolean isEnabled() {
+		return Boolean.getBoolean(COMPILE_PROPERTY);
+	}
+
+	/**
+	 * Get the compiled form of a statement list, compiling it on first use.
+	 *
+	 * @param owner      the AST element containing the statements
+	 * @param statements the statements
+	 * @return the compiled statements
+	 */
+	static CompiledStatement getCompiledStatements(final EObject owner, final List<STStatement> statements) {
+		synchronized (owner) {
+			CompiledCode code = (CompiledCode) EcoreUtil.getExistingAdapter(owner, CompiledCode.class);
+			if (code == null) {
+				code = new CompiledCode();
+				owner.eAdapters().add(code);
+			}
+			return code.get(statements);
+		}
+	}
+
+	static CompiledStatement compileStatements(final List<STStatement> statements) {
+		final CompiledStatement[] compiled = new CompiledStatement[statements.size()];
+		for (int i = 0; i < compiled.length; i++) {
+			compiled[i] = compileStatement(statements.get(i));
+		}
+		return switch (compiled.length) {
+		case 0 -> NOP;
+		case 1 -> compiled[0];
+		default -> evaluator -> {
+			for (final CompiledStatement statement : compiled) {
+				statement.execute(evaluator);
+			}
+		};
+		};
+	}
+
+	static CompiledStatement compileStatement(final STStatement stmt) {
+		return switch (stmt) {
+		case final STExpression stExpression -> compileStatement(stExpression);
+		case final STIfStatement stIfStatement -> compileStatement(stIfStatement);
+		case final STCaseStatement stCaseStatement -> compileStatement(stCaseStatement);
+		case final STForStatement stForStatement -> compileStatement(stForStatement);
+		case final STWhileStatement stWhileStatement -> compileStatement(stWhileStatement);
+		case final STRepeatStatement stRepeatStatement -> compileStatement(stRepeatStatement);
+		case null, default -> evaluator -> evaluator.evaluateStatement(stmt);
+		};
+	}
+
+	private static CompiledStatement compileStatement(final STExpression stmt) {
+		final CompiledExpression expression = compileExpression(stmt);
+		return evaluator -> {
+			evaluator.trapElement(stmt);
+			expression.evaluate(evaluator);
+		};
+	}
+
+	private static CompiledStatement compileStatement(final STIfStatement stmt) {
+		final List<STExpression> conditionElements = new ArrayList<>();
+		final List<CompiledExpression> conditions = new ArrayList<>();
+		final List<CompiledStatement> branches = new ArrayList<>();
+		conditionElements.add(stmt.getCondition());
+		conditions.add(compileExpression(stmt.getCondition()));
+		branches.add(compileStatements(stmt.getStatements()));
+		for (final STElseIfPart elseIfPart : stmt.getElseifs()) {
+			conditionElements.add(elseIfPart.getCondition());
+			conditions.add(compileExpression(elseIfPart.getCondition()));
+			branches.add(compileStatements(elseIfPart.getStatements()));
+		}
+		final STExpression[] conditionElementArray = conditionElements.toArray(STExpression[]::new);
+		final CompiledExpression[] conditionArray = conditions.toArray(CompiledExpression[]::new);
+		final CompiledStatement[] branchArray = branches.toArray(CompiledStatement[]::new);
+		final STElsePart elsePart = stmt.getElse();
+		final CompiledStatement elseBranch = elsePart != null ? compileStatements(elsePart.getStatements()) : NOP;
+		return evaluator -> {
+			for (int i = 0; i < conditionArray.length; i++) {
+				evaluator.trapElement(conditionElementArray[i]);
+				if (ValueOperations.asBoolean(conditionArray[i].evaluate(evaluator))) {
+					branchArray[i].execute(evaluator);
+					return;
+				}
+			}
+			elseBranch.execute(evaluator);
+		};
+	}
+
+	private static CompiledStatement compileStatement(final STCaseStatement stmt) {
+		final STExpression selectorElement = stmt.getSelector();
+		final CompiledExpression selector = compileExpression(selectorElement);
+		final List<STExpression> conditionElements = new ArrayList<>();
+		final List<CompiledCaseCondition> conditions = new ArrayList<>();
+		final List<CompiledStatement> blocks = new ArrayList<>();
+		for (final STCaseCases caseBlock : stmt.getCases()) {
+			final CompiledStatement block = compileStatements(caseBlock.getStatements());
+			for (final STExpression condition : caseBlock.getConditions()) {
+				conditionElements.add(condition);
+				conditions.add(compileCaseCondition(condition));
+				blocks.add(block);
+			}
+		}
+		final STExpression[] conditionElementArray = conditionElements.toArray(STExpression[]::new);
+		final CompiledCaseCondition[] conditionArray = conditions.toArray(CompiledCaseCondition[]::new);
+		final CompiledStatement[] blockArray = blocks.toArray(CompiledStatement[]::new);
+		final STElsePart elsePart = stmt.getElse();
+		final CompiledStatement elseBlock = elsePart != null ? compileStatements(elsePart.getStatements()) : NOP;
+		return evaluator -> {
+			evaluator.trapElement(selectorElement);
+			final Value value = selector.evaluate(evaluator);
+			for (int i = 0; i < conditionArray.length; i++) {
+				evaluator.trapElement(conditionElementArray[i]);
+				if (conditionArray[i].matches(evaluator, value)) {
+					blockArray[i].execute(evaluator);
+					return;
+				}
+			}
+			elseBlock.execute(evaluator);
+		};
+	}
+
+	private static CompiledCaseCondition compileCaseCondition(final STExpression expr) {
+		if (expr instanceof final STBinaryExpression binaryExpression
+				&& binaryExpression.getOp() == STBinaryOperator.RANGE) {
+			final CompiledExpression lower = compileExpression(binaryExpression.getLeft());
+			final CompiledExpression upper = compileExpression(binaryExpression.getRight());
+			return (evaluator, value) -> ValueOperations.greaterEquals(value, lower.evaluate(evaluator))
+					&& ValueOperations.lessEquals(value, upper.evaluate(evaluator));
+		}
+		final CompiledExpression expression = compileExpression(expr);
+		return (evaluator, value) -> ValueOperations.equals(value, expression.evaluate(evaluator));
+	}
+
+	private static CompiledStatement compileStatement(final STForStatement stmt) {
+		final STExpression variableElement = stmt.getVariable();
+		final STExpression fromElement = stmt.getFrom();
+		final CompiledExpression from = compileExpression(fromElement);
+		final CompiledExpression to = compileExpression(stmt.getTo());
+		final CompiledExpression by = stmt.getBy() != null ? compileExpression(stmt.getBy()) : null;
+		final STExpression trapExpression = stmt.getBy() != null ? stmt.getBy() : fromElement;
+		final CompiledStatement body = compileStatements(stmt.getStatements());
+		return evaluator -> {
+			final Variable<?> variable = evaluator.evaluateVariable(variableElement);
+			evaluator.trapElement(fromElement);
+			variable.setValue(from.evaluate(evaluator));
+			final Value toValue = to.evaluate(evaluator);
+			final Value byValue = by != null ? by.evaluate(evaluator)
+					: ValueOperations.wrapValue(Integer.valueOf(1), variable.getType());
+			final boolean ascending = ValueOperations.greaterEquals(byValue,
+					ValueOperations.defaultValue(variable.getType()));
+			try {
+				while (ascending ? ValueOperations.lessEquals(variable.getValue(), toValue)
+						: ValueOperations.greaterEquals(variable.getValue(), toValue)) {
+					try { // NOSONAR
+						body.execute(evaluator);
+					} catch (final ContinueException e) {
+						// continue
+					}
+					evaluator.trapElement(trapExpression);
+					variable.setValue(ValueOperations.add(variable.getValue(), byValue));
+				}
+			} catch (final ExitException e) {
+				// exit
+			}
+		};
+	}
+
+	private static CompiledStatement compileStatement(final STWhileStatement stmt) {
+		final STExpression conditionElement = stmt.getCondition();
+		final CompiledExpression condition = compileExpression(conditionElement);
+		final CompiledStatement body = compileStatements(stmt.getStatements());
+		return evaluator -> {
+			try {
+				while (isTrue(evaluator, conditionElement, condition)) {
+					try { // NOSONAR
+						body.execute(evaluator);
+					} catch (final ContinueException e) {
+						// continue
+					}
+				}
+			} catch (final ExitException e) {
+				// exit
+			}
+		};
+	}
+
+	private static CompiledStatement compileStatement(final STRepeatStatement stmt) {
+		final STExpression conditionElement = stmt.getCondition();
+		final CompiledExpression condition = compileExpression(conditionElement);
+		final CompiledStatement body = compileStatements(stmt.getStatements());
+		return evaluator -> {
+			try {
+				do {
+					try { // NOSONAR
+						body.execute(evaluator);
+					} catch (final ContinueException e) {
+						// continue
+					}
+				} while (!isTrue(evaluator, conditionElement, condition));
+			} catch (final ExitException e) {
+				// exit
+			}
+		};
+	}
+
+	private static boolean isTrue(final StructuredTextEvaluator evaluator, final STExpression conditionElement,
+			final CompiledExpression condition) throws EvaluatorException, InterruptedException {
+		evaluator.trapElement(conditionElement);
+		return ValueOperations.asBoolean(condition.evaluate(evaluator));
+	}
+
+	static CompiledExpression compileExpression(final STExpression expr) {
+		return switch (expr) {
+		case final STAssignment stAssignment -> compileExpression(stAssignment);
+		case final STBinaryExpression stBinaryExpression when stBinaryExpression.getOp() != STBinaryOperator.RANGE ->
+			compileExpression(stBinaryExpression);
+		case final STUnaryExpression stUnaryExpression -> compileExpression(stUnaryExpression);
+		case final STNumericLiteral stNumericLiteral -> compileLiteral(expr, stNumericLiteral.getValue());
+		case final STStringLiteral stStringLiteral -> compileLiteral(expr, stStringLiteral.getValue());
+		case final STDateLiteral stDateLiteral -> compileLiteral(expr, stDateLiteral.getValue());
+		case final STTimeLiteral stTimeLiteral -> compileLiteral(expr, stTimeLiteral.getValue());
+		case final STTimeOfDayLiteral stTimeOfDayLiteral -> compileLiteral(expr, stTimeOfDayLiteral.getValue());
+		case final STDateAndTimeLiteral stDateAndTimeLiteral ->
+			compileLiteral(expr, stDateAndTimeLiteral.getValue());
+		case final STFeatureExpression stFeatureExpression
+				when stFeatureExpression.getFeature() instanceof final VarDeclaration varDeclaration ->
+			evaluator -> evaluator.findVariable(varDeclaration).getValue();
+		case final STFeatureExpression stFeatureExpression
+				when stFeatureExpression.getFeature() instanceof final STVarDeclaration stVarDeclaration ->
+			evaluator -> evaluator.findVariable(stVarDeclaration).getValue();
+		case null, default -> evaluator -> evaluator.evaluateExpression(expr);
+		};
+	}
+
+	private static CompiledExpression compileExpression(final STAssignment expr) {
+		final CompiledExpression right = compileExpression(expr.getRight());
+		if (expr.getLeft() instanceof final STFeatureExpression featureExpression) {
+			if (featureExpression.getFeature() instanceof final VarDeclaration varDeclaration) {
+				return evaluator -> {
+					final Value value = right.evaluate(evaluator);
+					evaluator.findVariable(varDeclaration).setValue(value);
+					return value;
+				};
+			}
+			if (featureExpression.getFeature() instanceof final STVarDeclaration stVarDeclaration) {
+				return evaluator -> {
+					final Value value = right.evaluate(evaluator);
+					evaluator.findVariable(stVarDeclaration).setValue(value);
+					return value;
+				};
+			}
+		}
+		final STExpression left = expr.getLeft();
+		return evaluator -> {
+			final Value value = right.evaluate(evaluator);
+			evaluator.evaluateVariable(left).setValue(value);
+			return value;
+		};
+	}
+
+	private static CompiledExpression compileExpression(final STBinaryExpression expr) {
+		final CompiledExpression left = compileExpression(expr.getLeft());
+		final CompiledExpression right = compileExpression(expr.getRight());
+		final boolean logical = expr.getResultType() instanceof BoolType;
+		return switch (expr.getOp()) {
+		case ADD -> evaluator -> ValueOperations.add(left.evaluate(evaluator), right.evaluate(evaluator));
+		case SUB -> evaluator -> ValueOperations.subtract(left.evaluate(evaluator), right.evaluate(evaluator));
+		case MUL -> evaluator -> ValueOperations.multiply(left.evaluate(evaluator), right.evaluate(evaluator));
+		case DIV -> evaluator -> ValueOperations.divideBy(left.evaluate(evaluator), right.evaluate(evaluator));
+		case MOD -> evaluator -> ValueOperations.remainderBy(left.evaluate(evaluator), right.evaluate(evaluator));
+		case POWER -> evaluator -> ValueOperations.power(left.evaluate(evaluator), right.evaluate(evaluator));
+		case AND, AMPERSAND -> logical ? evaluator -> {
+			final Value leftValue = left.evaluate(evaluator);
+			return ValueOperations.asBoolean(leftValue)
+					? ValueOperations.bitwiseAnd(leftValue, right.evaluate(evaluator))
+					: leftValue;
+		} : evaluator -> ValueOperations.bitwiseAnd(left.evaluate(evaluator), right.evaluate(evaluator));
+		case OR -> logical ? evaluator -> {
+			final Value leftValue = left.evaluate(evaluator);
+			return ValueOperations.asBoolean(leftValue) ? leftValue
+					: ValueOperations.bitwiseOr(leftValue, right.evaluate(evaluator));
+		} : evaluator -> ValueOperations.bitwiseOr(left.evaluate(evaluator), right.evaluate(evaluator));
+		case XOR -> evaluator -> ValueOperations.bitwiseXor(left.evaluate(evaluator), right.evaluate(evaluator));
+		case EQ -> evaluator -> BoolValue
+				.toBoolValue(ValueOperations.equals(left.evaluate(evaluator), right.evaluate(evaluator)));
+		case NE -> evaluator -> BoolValue
+				.toBoolValue(!ValueOperations.equals(left.evaluate(evaluator), right.evaluate(evaluator)));
+		case LT -> evaluator -> BoolValue
+				.toBoolValue(ValueOperations.lessThan(left.evaluate(evaluator), right.evaluate(evaluator)));
+		case LE -> evaluator -> BoolValue
+				.toBoolValue(ValueOperations.lessEquals(left.evaluate(evaluator), right.evaluate(evaluator)));
+		case GT -> evaluator -> BoolValue
+				.toBoolValue(ValueOperations.greaterThan(left.evaluate(evaluator), right.evaluate(evaluator)));
+		case GE -> evaluator -> BoolValue
+				.toBoolValue(ValueOperations.greaterEquals(left.evaluate(evaluator), right.evaluate(evaluator)));
+		case RANGE -> evaluator -> evaluator.evaluateExpression(expr);
+		};
+	}
+
+	private static CompiledExpression compileExpression(final STUnaryExpression expr) {
+		final CompiledExpression expression = compileExpression(expr.getExpression());
+		return switch (expr.getOp()) {
+		case PLUS -> evaluator -> ValueOperations.abs(expression.evaluate(evaluator));
+		case MINUS -> evaluator -> ValueOperations.negate(expression.evaluate(evaluator));
+		case NOT -> evaluator -> ValueOperations.bitwiseNot(expression.evaluate(evaluator));
+		};
+	}
+
+	private static CompiledExpression compileLiteral(final STExpression expr, final Object literalValue) {
+		final Value value;
+		try {
+			value = ValueOperations.wrapValue(literalValue, expr.getResultType());
+		} catch (final RuntimeException e) {
+			// report invalid literals only when they are actually evaluated
+			return evaluator -> evaluator.evaluateExpression(expr);
+		}
+		return evaluator -> value;
+	}
+
+	/**
+	 * Cache of the compiled statements of an AST element.
+	 *
+	 * Attached to the element owning the statements, the adapter observes the
+	 * complete subtree and discards the compiled statements on any change.
+	 */
+	private static final class CompiledCode extends EContentAdapter {
+
+		private volatile CompiledStatement compiled;
+
+		CompiledStatement get(final List<STStatement> statements) {
+			CompiledStatement result = compiled;
+			if (result == null) {
+				result = compileStatements(statements);
+				compiled = result;
+			}
+			return result;
+		}
+
+		@Override
+		public void notifyChanged(final Notification notification) {
+			super.notifyChanged(notification);
+			if (!notification.isTouch()) {
+				compiled = null;
+			}
+		}
+
+		@Override
+		public boolean isAdapterForType(final Object type) {
+			return type == CompiledCode.class;
+		}
+	}
+
+	private StructuredTextCompiler() {
+		throw new UnsupportedOperationException("Utility class should not be instantiated!"); //$NON-NLS-1$
+	}
+}
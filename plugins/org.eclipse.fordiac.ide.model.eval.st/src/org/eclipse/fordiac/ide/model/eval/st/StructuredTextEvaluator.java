@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - optional compilation of statement lists
  */
 package org.eclipse.fordiac.ide.model.eval.st;
 
@@ -307,6 +308,28 @@ protected void evaluateStatementList(final List<STStatement> statements)
 		}
 	}
 
+	/**
+	 * Evaluate a statement list, using its compiled form if the compilation of
+	 * structured text is enabled (see {@link StructuredTextCompiler}).
+	 *
+	 * @param owner      the AST element containing the statements
+	 * @param statements the statements
+	 * @throws EvaluatorException   if the evaluation fails
+	 * @throws InterruptedException if the evaluation is interrupted
+	 */
+	protected void evaluateStatementList(final EObject owner, final List<STStatement> statements)
+			throws EvaluatorException, InterruptedException {
+		if (StructuredTextCompiler.isEnabled()) {
+			StructuredTextCompiler.getCompiledStatements(owner, statements).execute(this);
+		} else {
+			evaluateStatementList(statements);
+		}
+	}
+
+	final void trapElement(final Object element) throws InterruptedException {
+		trap(element);
+	}
+
 	protected void evaluateStatement(final STStatement stmt) throws EvaluatorException, InterruptedException {
 		switch (stmt) {
 		case final STExpression stExpression -> evaluateStatement(stExpression);
@@ -9,6 +9,8 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - look up the executor independent of the thread type, skip trap
+ *           dispatch without debugger
  */
 package org.eclipse.fordiac.ide.model.eval;
 
@@ -45,7 +47,12 @@ public Evaluator getParent() {
 	}
 
 	protected <T extends Object> T trap(final T context) throws InterruptedException {
-		currentDebugger().trap(context, this);
+		if (EvaluatorThreadPoolExecutor.isAnyDebuggerAttached()) {
+			currentDebugger().trap(context, this);
+		} else if (Thread.interrupted()) {
+			// same as the default debugger without looking it up
+			throw new InterruptedException();
+		}
 		return context;
 	}
 
@@ -74,45 +81,51 @@ protected void update(final Collection<? extends Variable<?>> variables) {
 	}
 
 	public static EvaluatorDebugger currentDebugger() {
-		if (Thread.currentThread() instanceof final EvaluatorThread evaluatorThread) {
-			return evaluatorThread.getExecutor().getDebugger();
+		final EvaluatorThreadPoolExecutor executor = EvaluatorThreadPoolExecutor.current();
+		if (executor != null) {
+			return executor.getDebugger();
 		}
 		return DefaultEvaluatorDebugger.INSTANCE;
 	}
 
 	public static Set<EvaluatorMonitor> currentMonitors() {
-		if (Thread.currentThread() instanceof final EvaluatorThread evaluatorThread) {
-			return evaluatorThread.getExecutor().getMonitorSet();
+		final EvaluatorThreadPoolExecutor executor = EvaluatorThreadPoolExecutor.current();
+		if (executor != null) {
+			return executor.getMonitorSet();
 		}
 		return Collections.emptySet();
 	}
 
 	public static Map<String, Object> currentContext() {
-		if (Thread.currentThread() instanceof final EvaluatorThread evaluatorThread) {
-			return evaluatorThread.getExecutor().getContext();
+		final EvaluatorThreadPoolExecutor executor = EvaluatorThreadPoolExecutor.current();
+		if (executor != null) {
+			return executor.getContext();
 		}
 		return Collections.emptyMap();
 	}
 
 	public static Map<String, Closeable> getSharedResources() {
-		if (!(Thread.currentThread() instanceof final EvaluatorThread evaluatorThread)) {
+		final EvaluatorThreadPoolExecutor executor = EvaluatorThreadPoolExecutor.current();
+		if (executor == null) {
 			throw new IllegalStateException("Cannot get shared resources without evaluator thread"); //$NON-NLS-1$
 		}
-		return evaluatorThread.getExecutor().getSharedResources();
+		return executor.getSharedResources();
 	}
 
 	public static Clock currentClock() {
-		if (Thread.currentThread() instanceof final EvaluatorThread evaluatorThread) {
-			return evaluatorThread.getExecutor().getClock();
+		final EvaluatorThreadPoolExecutor executor = EvaluatorThreadPoolExecutor.current();
+		if (executor != null) {
+			return executor.getClock();
 		}
 		return AbstractEvaluator.MonotonicClock.UTC;
 	}
 
 	public static void setClock(final Clock clock) {
-		if (!(Thread.currentThread() instanceof final EvaluatorThread evaluatorThread)) {
+		final EvaluatorThreadPoolExecutor executor = EvaluatorThreadPoolExecutor.current();
+		if (executor == null) {
 			throw new IllegalStateException("Cannot set clock without evaluator thread"); //$NON-NLS-1$
 		}
-		evaluatorThread.getExecutor().setClock(clock);
+		executor.setClock(clock);
 	}
 
 	public static class MonotonicClock extends Clock {
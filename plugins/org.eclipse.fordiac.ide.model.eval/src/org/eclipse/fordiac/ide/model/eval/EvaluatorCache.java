@@ -9,17 +9,25 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - fall back to the project scoped shared cache
  *******************************************************************************/
 package org.eclipse.fordiac.ide.model.eval;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.eclipse.fordiac.ide.model.eval.value.Value;
 import org.eclipse.fordiac.ide.model.libraryElement.INamedElement;
 import org.eclipse.fordiac.ide.model.libraryElement.ITypedElement;
 
+/**
+ * Cache of initial values and result types for the evaluations of a thread.
+ *
+ * Values not yet present are taken from the {@link SharedEvaluatorCache} of the
+ * project if possible, and computed values are added to it.
+ */
 public final class EvaluatorCache implements AutoCloseable {
 
 	private static final ThreadLocal<EvaluatorCache> threadCaches = ThreadLocal.withInitial(EvaluatorCache::new);
@@ -47,13 +55,34 @@ public void close() {
 
 	public <K extends ITypedElement> Value computeInitialValueIfAbsent(final K key,
 			final CacheFunction<? super K, ? extends Value> comp) throws EvaluatorException, InterruptedException {
+		return computeIfAbsent(cachedInitialValues, SharedEvaluatorCache.INSTANCE::getInitialValues, key, comp);
+	}
+
+	public <K extends ITypedElement> INamedElement computeResultTypeIfAbsent(final K key,
+			final CacheFunction<? super K, ? extends INamedElement> comp)
+			throws EvaluatorException, InterruptedException {
+		return computeIfAbsent(cachedResultType, SharedEvaluatorCache.INSTANCE::getResultTypes, key, comp);
+	}
+
+	private static <K extends ITypedElement, V> V computeIfAbsent(final Map<ITypedElement, V> cache,
+			final Function<ITypedElement, SharedEvaluatorCache.Store<V>> sharedStore, final K key,
+			final CacheFunction<? super K, ? extends V> comp) throws EvaluatorException, InterruptedException {
 		// cannot use computeIfAbsent due to recursive update
 		// use optimistic computation and putIfAbsent instead
-		final Value value = cachedInitialValues.get(key);
+		final V value = cache.get(key);
 		if (value == null) {
-			final Value newValue = comp.apply(key);
+			final SharedEvaluatorCache.Store<V> shared = sharedStore.apply(key);
+			V newValue = shared != null ? shared.get(key) : null;
+			if (newValue == null) {
+				// take the fingerprint before computing in case the key is changed concurrently
+				final Object fingerprint = SharedEvaluatorCache.getFingerprint(key);
+				newValue = comp.apply(key);
+				if (newValue != null && shared != null) {
+					shared.put(key, fingerprint, newValue);
+				}
+			}
 			if (newValue != null) {
-				final Value oldValue = cachedInitialValues.putIfAbsent(key, newValue);
+				final V oldValue = cache.putIfAbsent(key, newValue);
 				if (oldValue != null) {
 					return oldValue; // concurrent update -> discard computed value and return current value
 				}
@@ -63,25 +92,6 @@ public <K extends ITypedElement> Value computeInitialValueIfAbsent(final K key,
 		return value;
 	}
 
-	public <K extends ITypedElement> INamedElement computeResultTypeIfAbsent(final K key,
-			final CacheFunction<? super K, ? extends INamedElement> comp)
-			throws EvaluatorException, InterruptedException {
-		// cannot use computeIfAbsent due to recursive update
-		// use optimistic computation and putIfAbsent instead
-		final INamedElement type = cachedResultType.get(key);
-		if (type == null) {
-			final INamedElement newType = comp.apply(key);
-			if (newType != null) {
-				final INamedElement oldType = cachedResultType.putIfAbsent(key, newType);
-				if (oldType != null) {
-					return oldType; // concurrent update -> discard computed value and return current value
-				}
-				return newType;
-			}
-		}
-		return type;
-	}
-
 	@FunctionalInterface
 	public interface CacheFunction<T, R> {
 
@@ -9,6 +9,9 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - virtual threads, fixed size pools, and explicit context,
+ *           track attached debuggers
+ *   agent - release the debugger when terminated
  *******************************************************************************/
 package org.eclipse.fordiac.ide.model.eval;
 
@@ -17,7 +20,9 @@
 import java.time.Clock;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -27,10 +32,26 @@
 
 /**
  * An executor for evaluator threads
+ *
+ * <p>
+ * The executor either runs evaluators on platform {@link EvaluatorThread}s or on
+ * virtual threads. Evaluators find the executor of the current thread with
+ * {@link #current()}. Code evaluating outside of an executor thread may also
+ * bind an executor explicitly with {@link #runWithContext(Runnable)}.
+ * </p>
  */
 public class EvaluatorThreadPoolExecutor extends ThreadPoolExecutor {
 
+	private static final long FIXED_POOL_KEEP_ALIVE_SECONDS = 60;
+
+	/** the executor of threads which are not an {@link EvaluatorThread} */
+	private static final ThreadLocal<EvaluatorThreadPoolExecutor> CURRENT = new ThreadLocal<>();
+
+	/** the number of debuggers attached to any executor */
+	private static final AtomicInteger ATTACHED_DEBUGGERS = new AtomicInteger();
+
 	private final String name;
+	private final boolean virtualThreads;
 	private final AtomicReference<EvaluatorDebugger> debugger = new AtomicReference<>(
 			DefaultEvaluatorDebugger.INSTANCE);
 	private final Set<EvaluatorMonitor> monitorSet = ConcurrentHashMap.<EvaluatorMonitor>newKeySet();
@@ -54,11 +75,98 @@ public EvaluatorThreadPoolExecutor(final String name) {
 	 * @param maximumPoolSize The maximum number of threads
 	 */
 	public EvaluatorThreadPoolExecutor(final String name, final int maximumPoolSize) {
-		super(0, maximumPoolSize, 0, TimeUnit.NANOSECONDS, new SynchronousQueue<>());
+		this(name, maximumPoolSize, false);
+	}
+
+	/**
+	 * Create a new evaluator thread pool executor with specified number of threads
+	 *
+	 * @param name            The name of the executor
+	 * @param maximumPoolSize The maximum number of threads
+	 * @param virtualThreads  Whether to run the evaluators on virtual threads
+	 */
+	public EvaluatorThreadPoolExecutor(final String name, final int maximumPoolSize, final boolean virtualThreads) {
+		this(name, 0, maximumPoolSize, 0, new SynchronousQueue<>(), virtualThreads);
+	}
+
+	/**
+	 * Create a new evaluator thread pool executor
+	 *
+	 * @param name             The name of the executor
+	 * @param corePoolSize     The number of threads to keep
+	 * @param maximumPoolSize  The maximum number of threads
+	 * @param keepAliveSeconds The time idle threads are kept
+	 * @param workQueue        The queue for evaluations waiting for a thread
+	 * @param virtualThreads   Whether to run the evaluators on virtual threads
+	 */
+	protected EvaluatorThreadPoolExecutor(final String name, final int corePoolSize, final int maximumPoolSize,
+			final long keepAliveSeconds, final BlockingQueue<Runnable> workQueue, final boolean virtualThreads) {
+		super(corePoolSize, maximumPoolSize, keepAliveSeconds, TimeUnit.SECONDS, workQueue);
 		this.name = name;
+		this.virtualThreads = virtualThreads;
 		setThreadFactory(createThreadFactory());
 	}
 
+	/**
+	 * Create a new evaluator thread pool executor with a fixed number of threads.
+	 * Evaluations exceeding the number of threads are queued until a thread
+	 * becomes available. Idle threads are terminated after some time.
+	 *
+	 * @param name           The name of the executor
+	 * @param poolSize       The number of threads
+	 * @param virtualThreads Whether to run the evaluators on virtual threads
+	 * @return The executor
+	 */
+	public static EvaluatorThreadPoolExecutor newFixedThreadPool(final String name, final int poolSize,
+			final boolean virtualThreads) {
+		final EvaluatorThreadPoolExecutor executor = new EvaluatorThreadPoolExecutor(name, poolSize, poolSize,
+				FIXED_POOL_KEEP_ALIVE_SECONDS, new LinkedBlockingQueue<>(), virtualThreads);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Get the executor of the current thread
+	 *
+	 * @return The executor or null if the current thread is not governed by an
+	 *         executor
+	 */
+	public static EvaluatorThreadPoolExecutor current() {
+		if (Thread.currentThread() instanceof final EvaluatorThread evaluatorThread) {
+			return evaluatorThread.getExecutor();
+		}
+		return CURRENT.get();
+	}
+
+	/**
+	 * Run on the current thread with this executor as context (i.e., with its
+	 * debugger, monitors, context, shared resources, and clock)
+	 *
+	 * @param runnable The runnable encapsulating an evaluator
+	 */
+	public void runWithContext(final Runnable runnable) {
+		final EvaluatorThreadPoolExecutor previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			runnable.run();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	/**
+	 * Check whether the evaluators run on virtual threads
+	 *
+	 * @return true if virtual threads are used
+	 */
+	public boolean isVirtualThreads() {
+		return virtualThreads;
+	}
+
 	/**
 	 * Attach a debugger to the threads governed by this executor
 	 *
@@ -71,6 +179,7 @@ public synchronized void attachDebugger(final EvaluatorDebugger debugger) throws
 		if (!this.debugger.compareAndSet(DefaultEvaluatorDebugger.INSTANCE, debugger)) {
 			throw new IllegalStateException("A debugger is currently attached"); //$NON-NLS-1$
 		}
+		ATTACHED_DEBUGGERS.incrementAndGet();
 	}
 
 	/**
@@ -84,6 +193,17 @@ public synchronized void detachDebugger(final EvaluatorDebugger debugger) throws
 		if (!this.debugger.compareAndSet(debugger, DefaultEvaluatorDebugger.INSTANCE)) {
 			throw new IllegalStateException("Another debugger is currently attached"); //$NON-NLS-1$
 		}
+		ATTACHED_DEBUGGERS.decrementAndGet();
+	}
+
+	/**
+	 * Check whether a debugger is attached to any executor
+	 *
+	 * @return true if a debugger is attached, false if all executors use the
+	 *         default debugger
+	 */
+	public static boolean isAnyDebuggerAttached() {
+		return ATTACHED_DEBUGGERS.get() != 0;
 	}
 
 	/**
@@ -181,6 +301,15 @@ protected void terminated() {
 		});
 		debugger.get().terminated(this);
 		monitorSet.forEach(monitor -> monitor.terminated(this));
+		releaseDebugger();
+	}
+
+	private synchronized void releaseDebugger() {
+		// a terminated executor no longer runs evaluators, so its debugger must not
+		// count as attached anymore
+		if (debugger.getAndSet(DefaultEvaluatorDebugger.INSTANCE) != DefaultEvaluatorDebugger.INSTANCE) {
+			ATTACHED_DEBUGGERS.decrementAndGet();
+		}
 	}
 
 	/**
@@ -210,8 +339,13 @@ protected class EvaluatorThreadFactory implements ThreadFactory {
 
 		@Override
 		public Thread newThread(final Runnable runnable) {
-			return new EvaluatorThread(group, runnable, name + "-" + threadNumber.getAndIncrement(), //$NON-NLS-1$
-					EvaluatorThreadPoolExecutor.this);
+			final String threadName = name + "-" + threadNumber.getAndIncrement(); //$NON-NLS-1$
+			if (virtualThreads) {
+				// virtual threads cannot be subclassed, bind the executor for the lifetime of
+				// the worker instead
+				return Thread.ofVirtual().name(threadName).unstarted(() -> runWithContext(runnable));
+			}
+			return new EvaluatorThread(group, runnable, threadName, EvaluatorThreadPoolExecutor.this);
 		}
 	}
 }
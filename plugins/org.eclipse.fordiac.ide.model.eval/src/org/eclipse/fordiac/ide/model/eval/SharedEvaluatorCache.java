@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.eval;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.fordiac.ide.model.eval.value.Value;
+import org.eclipse.fordiac.ide.model.libraryElement.INamedElement;
+import org.eclipse.fordiac.ide.model.libraryElement.ITypedElement;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryManager;
+
+/**
+ * Project scoped cache of initial values and result types.
+ *
+ * The {@link EvaluatorCache} of an evaluation falls back to this cache, so that
+ * values computed once are reused by later evaluations on any thread. An entry
+ * is only used as long as the declaration it was computed from is unchanged
+ * (i.e., its type, initial value, and array size). As initial values may refer
+ * to other types of the project (e.g., global constants or structured types),
+ * the cache of a project is dropped whenever a file of the project changes.
+ */
+public enum SharedEvaluatorCache implements IResourceChangeListener {
+	INSTANCE;
+
+	private record Fingerprint(INamedElement type, String value, String arraySize) {
+	}
+
+	private record CacheEntry<V>(Fingerprint fingerprint, V value) {
+	}
+
+	static final class Store<V> {
+		// weak keys so that the cache does not keep unloaded types alive
+		private final Map<ITypedElement, CacheEntry<V>> entries = Collections.synchronizedMap(new WeakHashMap<>());
+
+		V get(final ITypedElement key) {
+			final CacheEntry<V> entry = entries.get(key);
+			if (entry != null && entry.fingerprint().equals(getFingerprint(key))) {
+				return entry.value();
+			}
+			return null;
+		}
+
+		void put(final ITypedElement key, final Object fingerprint, final V value) {
+			if (fingerprint instanceof final Fingerprint validFingerprint) {
+				entries.put(key, new CacheEntry<>(validFingerprint, value));
+			}
+		}
+	}
+
+	private static final class ProjectCache {
+		private final Store<Value> initialValues = new Store<>();
+		private final Store<INamedElement> resultTypes = new Store<>();
+	}
+
+	private final Map<IProject, ProjectCache> projectCaches = new ConcurrentHashMap<>();
+
+	Store<Value> getInitialValues(final ITypedElement element) {
+		final ProjectCache projectCache = getProjectCache(element);
+		return projectCache != null ? projectCache.initialValues : null;
+	}
+
+	Store<INamedElement> getResultTypes(final ITypedElement element) {
+		final ProjectCache projectCache = getProjectCache(element);
+		return projectCache != null ? projectCache.resultTypes : null;
+	}
+
+	/**
+	 * Get the state of the element the cached values are computed from.
+	 *
+	 * @param element the element
+	 * @return the fingerprint, or null if values of the element are not shared
+	 */
+	static Object getFingerprint(final ITypedElement element) {
+		if (element instanceof final VarDeclaration varDeclaration) {
+			return new Fingerprint(varDeclaration.getType(),
+					varDeclaration.getValue() != null ? varDeclaration.getValue().getValue() : null,
+					varDeclaration.getArraySize() != null ? varDeclaration.getArraySize().getValue() : null);
+		}
+		return null;
+	}
+
+	private ProjectCache getProjectCache(final ITypedElement element) {
+		if (getFingerprint(element) == null) {
+			return null;
+		}
+		final TypeLibrary typeLibrary = TypeLibraryManager.INSTANCE.getTypeLibraryFromContext(element);
+		if (typeLibrary == null || typeLibrary.getProject() == null) {
+			return null;
+		}
+		return projectCaches.computeIfAbsent(typeLibrary.getProject(), project -> new ProjectCache());
+	}
+
+	public void clear() {
+		projectCaches.clear();
+	}
+
+	@Override
+	public void resourceChanged(final IResourceChangeEvent event) {
+		final IResourceDelta delta = event.getDelta();
+		if (delta == null || projectCaches.isEmpty()) {
+			return;
+		}
+		try {
+			delta.accept(child -> {
+				if (child.getResource() instanceof final IProject project
+						&& (child.getKind() == IResourceDelta.REMOVED
+								|| (child.getFlags() & IResourceDelta.OPEN) != 0)) {
+					projectCaches.remove(project);
+					return false;
+				}
+				if (child.getResource() instanceof final IFile file && (child.getKind() != IResourceDelta.CHANGED
+						|| (child.getFlags() & IResourceDelta.CONTENT) != 0)) {
+					projectCaches.remove(file.getProject());
+					return false;
+				}
+				// do not descend into projects without cache
+				return !(child.getResource() instanceof final IProject project) || projectCaches.containsKey(project);
+			});
+		} catch (final CoreException e) {
+			Platform.getLog(getClass()).error(e.getMessage(), e);
+		}
+	}
+}
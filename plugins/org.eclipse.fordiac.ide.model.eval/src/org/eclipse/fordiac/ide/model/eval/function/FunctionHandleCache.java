@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.eval.function;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the resolved method handles of {@link Functions}.
+ *
+ * Resolving a function by name and argument types needs reflection over all
+ * methods of the function class. As the set of argument value classes is small,
+ * the resolved handle is cached per function class, name, and argument
+ * classes.
+ */
+final class FunctionHandleCache {
+
+	private record DispatchKey(String name, List<Class<?>> argumentTypes) {
+	}
+
+	private static final ClassValue<Map<DispatchKey, MethodHandle>> CACHE = new ClassValue<>() {
+		@Override
+		protected Map<DispatchKey, MethodHandle> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	static MethodHandle getHandle(final Class<? extends Functions> clazz, final String name,
+			final List<Class<?>> argumentTypes) throws NoSuchMethodException, IllegalAccessException {
+		final Map<DispatchKey, MethodHandle> handles = CACHE.get(clazz);
+		final DispatchKey key = new DispatchKey(name, argumentTypes);
+		MethodHandle handle = handles.get(key);
+		if (handle == null) {
+			// resolve outside of the map to keep lookup errors as checked exceptions, a
+			// concurrent resolution of the same function yields an equivalent handle
+			handle = MethodHandles.lookup().unreflect(Functions.findMethod(clazz, name, argumentTypes));
+			handles.putIfAbsent(key, handle);
+		}
+		return handle;
+	}
+
+	private FunctionHandleCache() {
+		throw new UnsupportedOperationException("Utility class should not be instantiated!"); //$NON-NLS-1$
+	}
+}
@@ -9,11 +9,11 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache resolved function handles
  *******************************************************************************/
 package org.eclipse.fordiac.ide.model.eval.function;
 
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -67,9 +67,12 @@ static Value invoke(final Class<? extends Functions> clazz, final String name, f
 	 */
 	static Value invoke(final Class<? extends Functions> clazz, final String name, final List<Object> arguments)
 			throws Throwable {
-		final Method method = findMethod(clazz, name,
-				arguments.stream().map(argument -> argument != null ? argument.getClass() : Object.class).toList());
-		final MethodHandle handle = MethodHandles.lookup().unreflect(method);
+		final Class<?>[] argumentTypes = new Class<?>[arguments.size()];
+		for (int i = 0; i < argumentTypes.length; i++) {
+			final Object argument = arguments.get(i);
+			argumentTypes[i] = argument != null ? argument.getClass() : Object.class;
+		}
+		final MethodHandle handle = FunctionHandleCache.getHandle(clazz, name, List.of(argumentTypes));
 		return (Value) handle.invokeWithArguments(arguments);
 	}
 
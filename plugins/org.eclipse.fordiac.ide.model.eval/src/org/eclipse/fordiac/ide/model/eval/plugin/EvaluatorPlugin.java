@@ -9,10 +9,14 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - register the shared evaluator cache
  *******************************************************************************/
 package org.eclipse.fordiac.ide.model.eval.plugin;
 
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Plugin;
+import org.eclipse.fordiac.ide.model.eval.SharedEvaluatorCache;
 import org.osgi.framework.BundleContext;
 
 public class EvaluatorPlugin extends Plugin {
@@ -22,5 +26,14 @@ public class EvaluatorPlugin extends Plugin {
 	public void start(final BundleContext context) throws Exception {
 		super.start(context);
 		new EvaluatorFactoryRegistryReader().readRegistry();
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(SharedEvaluatorCache.INSTANCE,
+				IResourceChangeEvent.POST_CHANGE);
+	}
+
+	@Override
+	public void stop(final BundleContext context) throws Exception {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(SharedEvaluatorCache.INSTANCE);
+		SharedEvaluatorCache.INSTANCE.clear();
+		super.stop(context);
 	}
 }
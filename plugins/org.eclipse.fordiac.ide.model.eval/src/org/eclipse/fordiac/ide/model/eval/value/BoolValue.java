@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -30,11 +31,11 @@ private BoolValue(final boolean value) {
 	}
 
 	public static BoolValue toBoolValue(final boolean value) {
-		return new BoolValue(value);
+		return value ? TRUE : FALSE;
 	}
 
 	public static BoolValue toBoolValue(final Boolean value) {
-		return new BoolValue(value.booleanValue());
+		return BoolValue.toBoolValue(value.booleanValue());
 	}
 
 	public static BoolValue toBoolValue(final String value) {
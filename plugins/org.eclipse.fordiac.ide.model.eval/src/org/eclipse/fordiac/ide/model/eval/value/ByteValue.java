@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -21,6 +22,9 @@
 public final class ByteValue implements AnyBitValue {
 	public static final ByteValue DEFAULT = new ByteValue((byte) 0);
 
+	private static final ValueCache<ByteValue> CACHE = new ValueCache<>(Byte.MIN_VALUE, Byte.MAX_VALUE,
+			value -> new ByteValue((byte) value));
+
 	private final byte value;
 
 	private ByteValue(final byte value) {
@@ -28,11 +32,11 @@ private ByteValue(final byte value) {
 	}
 
 	public static ByteValue toByteValue(final byte value) {
-		return new ByteValue(value);
+		return CACHE.get(value);
 	}
 
 	public static ByteValue toByteValue(final Number value) {
-		return new ByteValue(value.byteValue());
+		return ByteValue.toByteValue(value.byteValue());
 	}
 
 	public static ByteValue toByteValue(final String value) {
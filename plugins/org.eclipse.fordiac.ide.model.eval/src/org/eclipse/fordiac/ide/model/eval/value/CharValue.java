@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -19,6 +20,9 @@
 public final class CharValue implements AnyCharValue, AnySCharsValue {
 	public static final CharValue DEFAULT = new CharValue(((byte) 0));
 
+	private static final ValueCache<CharValue> CACHE = new ValueCache<>(Byte.MIN_VALUE, Byte.MAX_VALUE,
+			value -> new CharValue((byte) value));
+
 	private final byte value;
 
 	private CharValue(final byte value) {
@@ -26,7 +30,7 @@ private CharValue(final byte value) {
 	}
 
 	public static CharValue toCharValue(final byte value) {
-		return new CharValue(value);
+		return CACHE.get(value);
 	}
 
 	public static CharValue toCharValue(final String value) {
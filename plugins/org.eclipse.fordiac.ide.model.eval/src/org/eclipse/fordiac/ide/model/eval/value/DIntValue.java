@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -22,6 +23,8 @@
 public final class DIntValue implements AnySignedValue {
 	public static final DIntValue DEFAULT = new DIntValue(0);
 
+	private static final ValueCache<DIntValue> CACHE = new ValueCache<>(-128, 127, value -> new DIntValue(value));
+
 	private final int value;
 
 	private DIntValue(final int value) {
@@ -29,11 +32,12 @@ private DIntValue(final int value) {
 	}
 
 	public static DIntValue toDIntValue(final int value) {
-		return new DIntValue(value);
+		final DIntValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new DIntValue(value);
 	}
 
 	public static DIntValue toDIntValue(final Number value) {
-		return new DIntValue(value.intValue());
+		return DIntValue.toDIntValue(value.intValue());
 	}
 
 	public static DIntValue toDIntValue(final String value) {
@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -21,6 +22,8 @@
 public final class DWordValue implements AnyBitValue {
 	public static final DWordValue DEFAULT = new DWordValue(0);
 
+	private static final ValueCache<DWordValue> CACHE = new ValueCache<>(0, 255, value -> new DWordValue(value));
+
 	private final int value;
 
 	private DWordValue(final int value) {
@@ -28,11 +31,12 @@ private DWordValue(final int value) {
 	}
 
 	public static DWordValue toDWordValue(final int value) {
-		return new DWordValue(value);
+		final DWordValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new DWordValue(value);
 	}
 
 	public static DWordValue toDWordValue(final Number value) {
-		return new DWordValue(value.intValue());
+		return DWordValue.toDWordValue(value.intValue());
 	}
 
 	public static DWordValue toDWordValue(final String value) {
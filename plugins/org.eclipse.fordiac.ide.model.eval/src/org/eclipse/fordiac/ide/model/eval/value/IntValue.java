@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -22,6 +23,8 @@
 public final class IntValue implements AnySignedValue {
 	public static final IntValue DEFAULT = new IntValue(((short) 0));
 
+	private static final ValueCache<IntValue> CACHE = new ValueCache<>(-128, 127, value -> new IntValue((short) value));
+
 	private final short value;
 
 	private IntValue(final short value) {
@@ -29,11 +32,12 @@ private IntValue(final short value) {
 	}
 
 	public static IntValue toIntValue(final short value) {
-		return new IntValue(value);
+		final IntValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new IntValue(value);
 	}
 
 	public static IntValue toIntValue(final Number value) {
-		return new IntValue(value.shortValue());
+		return IntValue.toIntValue(value.shortValue());
 	}
 
 	public static IntValue toIntValue(final String value) {
@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -22,6 +23,8 @@
 public final class LIntValue implements AnySignedValue {
 	public static final LIntValue DEFAULT = new LIntValue(0);
 
+	private static final ValueCache<LIntValue> CACHE = new ValueCache<>(-128, 127, value -> new LIntValue(value));
+
 	private final long value;
 
 	private LIntValue(final long value) {
@@ -29,11 +32,12 @@ private LIntValue(final long value) {
 	}
 
 	public static LIntValue toLIntValue(final long value) {
-		return new LIntValue(value);
+		final LIntValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new LIntValue(value);
 	}
 
 	public static LIntValue toLIntValue(final Number value) {
-		return new LIntValue(value.longValue());
+		return LIntValue.toLIntValue(value.longValue());
 	}
 
 	public static LIntValue toLIntValue(final String value) {
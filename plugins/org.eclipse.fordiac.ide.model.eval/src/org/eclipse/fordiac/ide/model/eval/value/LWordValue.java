@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -21,6 +22,8 @@
 public final class LWordValue implements AnyBitValue {
 	public static final LWordValue DEFAULT = new LWordValue(0);
 
+	private static final ValueCache<LWordValue> CACHE = new ValueCache<>(0, 255, value -> new LWordValue(value));
+
 	private final long value;
 
 	private LWordValue(final long value) {
@@ -28,11 +31,12 @@ private LWordValue(final long value) {
 	}
 
 	public static LWordValue toLWordValue(final long value) {
-		return new LWordValue(value);
+		final LWordValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new LWordValue(value);
 	}
 
 	public static LWordValue toLWordValue(final Number value) {
-		return new LWordValue(value.longValue());
+		return LWordValue.toLWordValue(value.longValue());
 	}
 
 	public static LWordValue toLWordValue(final String value) {
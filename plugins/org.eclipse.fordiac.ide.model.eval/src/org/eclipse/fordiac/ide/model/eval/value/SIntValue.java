@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -22,6 +23,9 @@
 public final class SIntValue implements AnySignedValue {
 	public static final SIntValue DEFAULT = new SIntValue(((byte) 0));
 
+	private static final ValueCache<SIntValue> CACHE = new ValueCache<>(Byte.MIN_VALUE, Byte.MAX_VALUE,
+			value -> new SIntValue((byte) value));
+
 	private final byte value;
 
 	private SIntValue(final byte value) {
@@ -29,11 +33,11 @@ private SIntValue(final byte value) {
 	}
 
 	public static SIntValue toSIntValue(final byte value) {
-		return new SIntValue(value);
+		return CACHE.get(value);
 	}
 
 	public static SIntValue toSIntValue(final Number value) {
-		return new SIntValue(value.byteValue());
+		return SIntValue.toSIntValue(value.byteValue());
 	}
 
 	public static SIntValue toSIntValue(final String value) {
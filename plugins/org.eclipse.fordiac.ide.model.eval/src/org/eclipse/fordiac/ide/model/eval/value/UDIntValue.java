@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -22,6 +23,8 @@
 public final class UDIntValue implements AnyUnsignedValue {
 	public static final UDIntValue DEFAULT = new UDIntValue(0);
 
+	private static final ValueCache<UDIntValue> CACHE = new ValueCache<>(0, 255, value -> new UDIntValue(value));
+
 	private final int value;
 
 	private UDIntValue(final int value) {
@@ -29,11 +32,12 @@ private UDIntValue(final int value) {
 	}
 
 	public static UDIntValue toUDIntValue(final int value) {
-		return new UDIntValue(value);
+		final UDIntValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new UDIntValue(value);
 	}
 
 	public static UDIntValue toUDIntValue(final Number value) {
-		return new UDIntValue(value.intValue());
+		return UDIntValue.toUDIntValue(value.intValue());
 	}
 
 	public static UDIntValue toUDIntValue(final String value) {
@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -22,6 +23,8 @@
 public final class UIntValue implements AnyUnsignedValue {
 	public static final UIntValue DEFAULT = new UIntValue(((short) 0));
 
+	private static final ValueCache<UIntValue> CACHE = new ValueCache<>(0, 255, value -> new UIntValue((short) value));
+
 	private final short value;
 
 	private UIntValue(final short value) {
@@ -29,11 +32,12 @@ private UIntValue(final short value) {
 	}
 
 	public static UIntValue toUIntValue(final short value) {
-		return new UIntValue(value);
+		final UIntValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new UIntValue(value);
 	}
 
 	public static UIntValue toUIntValue(final Number value) {
-		return new UIntValue(value.shortValue());
+		return UIntValue.toUIntValue(value.shortValue());
 	}
 
 	public static UIntValue toUIntValue(final String value) {
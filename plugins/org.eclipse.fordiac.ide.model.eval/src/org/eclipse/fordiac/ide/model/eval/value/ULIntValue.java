@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -22,6 +23,8 @@
 public final class ULIntValue implements AnyUnsignedValue {
 	public static final ULIntValue DEFAULT = new ULIntValue(0);
 
+	private static final ValueCache<ULIntValue> CACHE = new ValueCache<>(0, 255, value -> new ULIntValue(value));
+
 	private final long value;
 
 	private ULIntValue(final long value) {
@@ -29,11 +32,12 @@ private ULIntValue(final long value) {
 	}
 
 	public static ULIntValue toULIntValue(final long value) {
-		return new ULIntValue(value);
+		final ULIntValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new ULIntValue(value);
 	}
 
 	public static ULIntValue toULIntValue(final Number value) {
-		return new ULIntValue(value.longValue());
+		return ULIntValue.toULIntValue(value.longValue());
 	}
 
 	public static ULIntValue toULIntValue(final String value) {
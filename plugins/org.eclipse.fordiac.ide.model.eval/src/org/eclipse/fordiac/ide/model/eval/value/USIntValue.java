@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -22,6 +23,9 @@
 public final class USIntValue implements AnyUnsignedValue {
 	public static final USIntValue DEFAULT = new USIntValue(((byte) 0));
 
+	private static final ValueCache<USIntValue> CACHE = new ValueCache<>(Byte.MIN_VALUE, Byte.MAX_VALUE,
+			value -> new USIntValue((byte) value));
+
 	private final byte value;
 
 	private USIntValue(final byte value) {
@@ -29,11 +33,11 @@ private USIntValue(final byte value) {
 	}
 
 	public static USIntValue toUSIntValue(final byte value) {
-		return new USIntValue(value);
+		return CACHE.get(value);
 	}
 
 	public static USIntValue toUSIntValue(final Number value) {
-		return new USIntValue(value.byteValue());
+		return USIntValue.toUSIntValue(value.byteValue());
 	}
 
 	public static USIntValue toUSIntValue(final String value) {
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.eval.value;
+
+import java.util.function.IntFunction;
+
+/**
+ * Preallocated instances of an immutable value type for a small range of
+ * frequently used values (e.g., loop counters and small constants).
+ *
+ * @param <T> the value type
+ */
+final class ValueCache<T extends Value> {
+
+	private final int low;
+	private final int high;
+	private final Value[] values;
+
+	/**
+	 * Create a cache for the values from {@code low} to {@code high} (inclusive).
+	 *
+	 * @param low     the lowest cached value
+	 * @param high    the highest cached value
+	 * @param factory creates the value instance for a number in the range
+	 */
+	ValueCache(final int low, final int high, final IntFunction<T> factory) {
+		this.low = low;
+		this.high = high;
+		values = new Value[high - low + 1];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = factory.apply(i + low);
+		}
+	}
+
+	/**
+	 * Get the cached instance for a number.
+	 *
+	 * @param value the number
+	 * @return the cached instance or null if the number is outside of the cached
+	 *         range
+	 */
+	@SuppressWarnings("unchecked")
+	T get(final long value) {
+		if (value < low || value > high) {
+			return null;
+		}
+		return (T) values[(int) (value - low)];
+	}
+}
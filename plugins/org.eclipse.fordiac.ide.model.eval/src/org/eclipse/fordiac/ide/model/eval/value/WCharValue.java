@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -19,6 +20,8 @@
 public final class WCharValue implements AnyCharValue, AnyWCharsValue {
 	public static final WCharValue DEFAULT = new WCharValue(((char) 0));
 
+	private static final ValueCache<WCharValue> CACHE = new ValueCache<>(0, 127, value -> new WCharValue((char) value));
+
 	private final char value;
 
 	private WCharValue(final char value) {
@@ -26,11 +29,12 @@ private WCharValue(final char value) {
 	}
 
 	public static WCharValue toWCharValue(final char value) {
-		return new WCharValue(value);
+		final WCharValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new WCharValue(value);
 	}
 
 	public static WCharValue toWCharValue(final String value) {
-		return new WCharValue(!value.isEmpty() ? value.charAt(0) : '\u0000');
+		return WCharValue.toWCharValue(!value.isEmpty() ? value.charAt(0) : '\u0000');
 	}
 
 	public static WCharValue toWCharValue(final AnyCharsValue value) {
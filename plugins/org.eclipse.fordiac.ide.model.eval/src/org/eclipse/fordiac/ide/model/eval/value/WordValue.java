@@ -9,6 +9,7 @@
  *
  * Contributors:
  *   Martin Jobst - initial API and implementation and/or initial documentation
+ *   agent - cache frequently used values
  */
 package org.eclipse.fordiac.ide.model.eval.value;
 
@@ -21,6 +22,8 @@
 public final class WordValue implements AnyBitValue {
 	public static final WordValue DEFAULT = new WordValue(((short) 0));
 
+	private static final ValueCache<WordValue> CACHE = new ValueCache<>(0, 255, value -> new WordValue((short) value));
+
 	private final short value;
 
 	private WordValue(final short value) {
@@ -28,11 +31,12 @@ private WordValue(final short value) {
 	}
 
 	public static WordValue toWordValue(final short value) {
-		return new WordValue(value);
+		final WordValue cached = CACHE.get(value);
+		return (null != cached) ? cached : new WordValue(value);
 	}
 
 	public static WordValue toWordValue(final Number value) {
-		return new WordValue(value.shortValue());
+		return WordValue.toWordValue(value.shortValue());
 	}
 
 	public static WordValue toWordValue(final String value) {
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.search;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.fordiac.ide.model.data.ArrayType;
+import org.eclipse.fordiac.ide.model.eval.variable.VariableOperations;
+import org.eclipse.fordiac.ide.model.libraryElement.Algorithm;
+import org.eclipse.fordiac.ide.model.libraryElement.AttributeDeclaration;
+import org.eclipse.fordiac.ide.model.libraryElement.BaseFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.ConfigurableFB;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.FBNetworkElement;
+import org.eclipse.fordiac.ide.model.libraryElement.INamedElement;
+import org.eclipse.fordiac.ide.model.libraryElement.ITypedElement;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElement;
+import org.eclipse.fordiac.ide.model.libraryElement.Method;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeEntry;
+import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
+
+/**
+ * Index of the searchable strings of all library elements.
+ *
+ * For every searched type or system the index keeps all strings the model
+ * search may compare against: names, comments, type names, pin names, and the
+ * variables used in algorithms and methods. Before a library element is
+ * loaded and traversed, the search asks the index if any of these strings
+ * could match. Only elements with a potential match are loaded.
+ *
+ * An index record is valid as long as neither the file of the element nor the
+ * file of any of its direct dependencies changed (e.g., the internal FBs of a
+ * basic FB type show up in every instance). Records are dropped when their file
+ * changes or is removed, and are rebuilt by the next search that traverses the
+ * element.
+ */
+public enum ModelSearchIndex implements IResourceChangeListener {
+	INSTANCE;
+
+	private record IndexRecord(long modificationStamp, List<IFile> dependencies, long[] dependencyStamps,
+			String[] searchStrings) {
+
+		boolean isCurrent(final TypeEntry entry) {
+			if (entry.getFile().getModificationStamp() != modificationStamp) {
+				return false;
+			}
+			for (int i = 0; i < dependencyStamps.length; i++) {
+				if (dependencies.get(i).getModificationStamp() != dependencyStamps[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		boolean mayMatch(final Predicate<String> matcher) {
+			return Stream.of(searchStrings).anyMatch(matcher);
+		}
+	}
+
+	private final Map<IFile, IndexRecord> records = new ConcurrentHashMap<>();
+
+	/**
+	 * Check if the library element of the type entry may contain a match.
+	 *
+	 * @param entry   the type entry of the library element to be searched
+	 * @param matcher the string comparison of the search
+	 * @return false if the index is current and none of the indexed strings
+	 *         matches, true otherwise
+	 */
+	public boolean mayMatch(final TypeEntry entry, final Predicate<String> matcher) {
+		if (entry == null || entry.getFile() == null) {
+			return true;
+		}
+		final IndexRecord indexRecord = records.get(entry.getFile());
+		return indexRecord == null || !indexRecord.isCurrent(entry) || indexRecord.mayMatch(matcher);
+	}
+
+	/**
+	 * Update the index record of the given type entry.
+	 *
+	 * @param entry          the type entry
+	 * @param libraryElement the library element as stored in the file of the type
+	 *                       entry
+	 */
+	public void update(final TypeEntry entry, final LibraryElement libraryElement) {
+		if (entry == null || entry.getFile() == null || libraryElement == null) {
+			return;
+		}
+		final IFile file = entry.getFile();
+		// read the stamps before collecting the strings, a concurrent change will
+		// invalidate the record
+		final long modificationStamp = file.getModificationStamp();
+		final List<IFile> dependencies = entry.getDependencies().stream().map(TypeEntry::getFile)
+				.filter(Objects::nonNull).toList();
+		final long[] dependencyStamps = dependencies.stream().mapToLong(IFile::getModificationStamp).toArray();
+		if (modificationStamp == IResource.NULL_STAMP) {
+			return;
+		}
+		records.put(file, new IndexRecord(modificationStamp, dependencies, dependencyStamps,
+				collectSearchStrings(libraryElement)));
+	}
+
+	public void clear() {
+		records.clear();
+	}
+
+	@Override
+	public void resourceChanged(final IResourceChangeEvent event) {
+		final IResourceDelta delta = event.getDelta();
+		if (delta == null || records.isEmpty()) {
+			return;
+		}
+		try {
+			delta.accept(child -> {
+				if (child.getResource() instanceof final IFile file && (child.getKind() == IResourceDelta.REMOVED
+						|| (child.getFlags() & IResourceDelta.CONTENT) != 0)) {
+					records.remove(file);
+				}
+				return true;
+			});
+		} catch (final CoreException e) {
+			FordiacLogHelper.logError(e.getMessage(), e);
+		}
+	}
+
+	private static String[] collectSearchStrings(final LibraryElement libraryElement) {
+		final Set<String> strings = new HashSet<>();
+		addSearchStrings(libraryElement, strings);
+		libraryElement.eAllContents().forEachRemaining(object -> addSearchStrings(object, strings));
+		return strings.toArray(String[]::new);
+	}
+
+	private static void addSearchStrings(final EObject object, final Set<String> strings) {
+		if (object instanceof final INamedElement namedElement) {
+			addNamedElement(namedElement, strings);
+		}
+		if (object instanceof final ITypedElement typedElement && typedElement.getType() != null) {
+			addNamedElement(typedElement.getType(), strings);
+		}
+		switch (object) {
+		case final ArrayType arrayType when arrayType.getBaseType() != null ->
+			addNamedElement(arrayType.getBaseType(), strings);
+		case final AttributeDeclaration attributeDeclaration when attributeDeclaration.getType() != null ->
+			addNamedElement(attributeDeclaration.getType(), strings);
+		case final Algorithm algorithm -> strings.addAll(VariableOperations.getAllDependencies(algorithm));
+		case final Method method -> strings.addAll(VariableOperations.getAllDependencies(method));
+		default -> {
+			// nothing else to add
+		}
+		}
+		if (object instanceof final ConfigurableFB configurableFB && configurableFB.getDataType() != null) {
+			addNamedElement(configurableFB.getDataType(), strings);
+		}
+		if (object instanceof final FBNetworkElement element && element.getType() instanceof final BaseFBType type) {
+			// internal FBs of the instance's type are reported for the instance
+			for (final FB internalFB : type.getInternalFbs()) {
+				addNamedElement(internalFB, strings);
+			}
+		}
+	}
+
+	private static void addNamedElement(final INamedElement namedElement, final Set<String> strings) {
+		addIfNotNull(namedElement.getName(), strings);
+		addIfNotNull(namedElement.getComment(), strings);
+		if (namedElement instanceof final ITypedElement typedElement) {
+			addIfNotNull(typedElement.getTypeName(), strings);
+			addIfNotNull(typedElement.getFullTypeName(), strings);
+		}
+		if (namedElement instanceof final LibraryElement libraryElement && libraryElement.getTypeEntry() != null) {
+			addIfNotNull(libraryElement.getTypeEntry().getFullTypeName(), strings);
+		}
+	}
+
+	private static void addIfNotNull(final String string, final Set<String> strings) {
+		if (string != null) {
+			strings.add(string);
+		}
+	}
+}
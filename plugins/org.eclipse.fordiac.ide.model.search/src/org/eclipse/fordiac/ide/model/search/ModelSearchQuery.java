@@ -12,14 +12,22 @@
  *    - initial API and implementation and/or initial documentation
  *   Ernst Blecha
  *    - add cancelation of search
+ *   agent
+ *    - skip elements without potential matches based on the search index
+ *    - search library elements in parallel
  *******************************************************************************/
 package org.eclipse.fordiac.ide.model.search;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -27,6 +35,7 @@
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.fordiac.ide.model.data.ArrayType;
 import org.eclipse.fordiac.ide.model.data.DataType;
 import org.eclipse.fordiac.ide.model.data.StructuredType;
@@ -53,10 +62,13 @@
 import org.eclipse.fordiac.ide.model.libraryElement.TypedConfigureableObject;
 import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
 import org.eclipse.fordiac.ide.model.search.ModelQuerySpec.SearchScope;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeEntry;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryManager;
 import org.eclipse.search.ui.ISearchQuery;
 import org.eclipse.search.ui.NewSearchUI;
 import org.eclipse.search2.internal.ui.SearchView;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
 
 public class ModelSearchQuery implements ISearchQuery {
 
@@ -93,17 +105,52 @@ private List<ISearchContext> getSearchContexts() {
 				.map(ISearchContext.class::cast).toList();
 	}
 
+	private record SearchItem(ISearchContext context, URI uri) {
+	}
+
+	/**
+	 * Search all types and systems of all contexts in parallel. Matches are added
+	 * to the search result as soon as they are found, so that the result page can
+	 * show them while the search is still running.
+	 */
 	private void performSearch(final List<ISearchContext> searchContexts, final IProgressMonitor monitor) {
-		for (final ISearchContext context : searchContexts) {
-			context.getTypes().forEach(libraryElementURI -> {
-				final LibraryElement libraryElement = context.getLibraryElement(libraryElementURI);
-				if (libraryElement instanceof final AutomationSystem sys) {
-					searchSystem(sys, monitor);
-				} else if (matchTypeEntry(libraryElement, monitor)) {
-					searchResult.addResult(libraryElement);
-				}
-			});
+		final Set<IFile> unsavedFiles = getFilesWithUnsavedChanges();
+		final List<SearchItem> items = searchContexts.stream()
+				.flatMap(context -> context.getTypes().map(uri -> new SearchItem(context, uri))).toList();
+		items.parallelStream().forEach(item -> searchLibraryElement(item, unsavedFiles, monitor));
+	}
+
+	private void searchLibraryElement(final SearchItem item, final Set<IFile> unsavedFiles,
+			final IProgressMonitor monitor) {
+		SearchCanceledException.throwIfCanceled(monitor);
+		final TypeEntry entry = TypeLibraryManager.INSTANCE.getTypeEntryForURI(item.uri());
+		final boolean unsaved = entry != null && unsavedFiles.contains(entry.getFile());
+		if (!unsaved && !ModelSearchIndex.INSTANCE.mayMatch(entry, this::compareStrings)) {
+			return; // nothing to be found in this element
+		}
+		final LibraryElement libraryElement = item.context().getLibraryElement(item.uri());
+		if (!unsaved) {
+			ModelSearchIndex.INSTANCE.update(entry, libraryElement);
+		}
+		if (libraryElement instanceof final AutomationSystem sys) {
+			searchSystem(sys, monitor);
+		} else if (matchTypeEntry(libraryElement, monitor)) {
+			searchResult.addResult(libraryElement);
+		}
+	}
+
+	/**
+	 * The search is performed on the models of open editors. Files with unsaved
+	 * changes can therefore not be checked and indexed based on their content.
+	 */
+	private static Set<IFile> getFilesWithUnsavedChanges() {
+		if (!PlatformUI.isWorkbenchRunning()) {
+			return Collections.emptySet();
 		}
+		return Display.getDefault().syncCall(() -> Stream.of(PlatformUI.getWorkbench().getWorkbenchWindows())
+				.flatMap(window -> Stream.of(window.getPages())).flatMap(page -> Stream.of(page.getDirtyEditors()))
+				.map(editor -> editor.getEditorInput().getAdapter(IFile.class)).filter(Objects::nonNull)
+				.collect(Collectors.toSet()));
 	}
 
 	private void searchSystem(final AutomationSystem sys, final IProgressMonitor monitor) {
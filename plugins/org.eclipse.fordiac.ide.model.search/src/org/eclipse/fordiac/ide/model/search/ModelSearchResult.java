@@ -14,6 +14,7 @@
 package org.eclipse.fordiac.ide.model.search;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.emf.ecore.EObject;
@@ -34,7 +35,8 @@ public class ModelSearchResult extends AbstractTextSearchResult {
 
 	public ModelSearchResult(final ISearchQuery job) {
 		this.modelSearchQuery = job;
-		this.results = new ArrayList<>();
+		// results are added concurrently by the search workers
+		this.results = Collections.synchronizedList(new ArrayList<>());
 		this.dictionary = new SearchNameDictionary();
 	}
 
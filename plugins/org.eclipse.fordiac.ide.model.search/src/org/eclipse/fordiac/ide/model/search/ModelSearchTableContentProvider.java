@@ -53,7 +53,11 @@ public void clear() {
 
 	@Override
 	public void elementsChanged(final Object[] updatedElements) {
-		// TODO implement updating
+		// results are streamed in while the search is running, the search view
+		// batches these updates so a full refresh is sufficient
+		if (result != null && !getViewer().getControl().isDisposed()) {
+			getViewer().refresh();
+		}
 	}
 
 	@Override
@@ -36,12 +36,12 @@ public class SearchNameDictionary {
 
 	private final HashMap<FBNetworkElement, Stack<List<FBNetworkElement>>> map = new HashMap<>();
 
-	public void addEntry(final FBNetworkElement fbnetworkElement, final List<FBNetworkElement> composites) {
+	public synchronized void addEntry(final FBNetworkElement fbnetworkElement, final List<FBNetworkElement> composites) {
 		map.computeIfAbsent(fbnetworkElement, elem -> new Stack<>());
 		map.get(fbnetworkElement).push(composites); // list newly allocated for every depth, so no ownership problems
 	}
 
-	public String hierarchicalName(final Object element) {
+	public synchronized String hierarchicalName(final Object element) {
 		if (element instanceof final FBNetworkElement fbne) {
 			if (fbne.eContainer() instanceof BasicFBType || fbne.eContainer() instanceof SimpleFBType) {
 				// internal fbs
@@ -12,7 +12,10 @@
  *******************************************************************************/
 package org.eclipse.fordiac.ide.model.search.plugin;
 
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Plugin;
+import org.eclipse.fordiac.ide.model.search.ModelSearchIndex;
 import org.osgi.framework.BundleContext;
 
 public class SearchPlugin extends Plugin {
@@ -22,5 +25,14 @@ public class SearchPlugin extends Plugin {
 	public void start(final BundleContext context) throws Exception {
 		super.start(context);
 		SearchFactoryRegistryReader.readRegistry();
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(ModelSearchIndex.INSTANCE,
+				IResourceChangeEvent.POST_CHANGE);
+	}
+
+	@Override
+	public void stop(final BundleContext context) throws Exception {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(ModelSearchIndex.INSTANCE);
+		ModelSearchIndex.INSTANCE.clear();
+		super.stop(context);
 	}
 }
@@ -106,6 +106,7 @@ public final class Messages extends NLS {
 	public static String StructValueConverter_InvalidStructLiteral;
 	public static String TypedElementAnnotations_TypeNotFound;
 	public static String TypedElementAnnotations_TypeNotSet;
+	public static String TypeLibrary_LoadingTypes;
 	public static String TypeLibrary_TypeExists;
 	public static String VALIDATOR_ARRAY_MISSES_BRACKETS;
 	public static String VALIDATOR_CONSECUTIVE_UNDERSCORES_ERROR_MESSAGE;
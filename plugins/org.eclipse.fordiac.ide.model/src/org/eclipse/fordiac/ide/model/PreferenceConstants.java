@@ -25,6 +25,10 @@ public final class PreferenceConstants {
 	public static final String P_ALLOCATION_SIZE = "allocationSize"; //$NON-NLS-1$
 	public static final int P_ALLOCATION_SIZE_DEFAULT_VALUE = 100;
 
+	/** Load all types of a type library in parallel after a reload or refresh. */
+	public static final String P_PARALLEL_TYPE_LOADING = "parallelTypeLoading"; //$NON-NLS-1$
+	public static final boolean P_PARALLEL_TYPE_LOADING_DEFAULT_VALUE = false;
+
 	public static final String MARGIN_TOP_BOTTOM = "MarginTopBottom"; //$NON-NLS-1$
 	public static final String MARGIN_LEFT_RIGHT = "MarginLeftRight"; //$NON-NLS-1$
 	public static final int MARGIN_TOP_BOTTOM_DEFAULT_VALUE = 0;
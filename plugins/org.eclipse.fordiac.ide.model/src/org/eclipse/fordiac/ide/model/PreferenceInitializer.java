@@ -24,6 +24,8 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 	public void initializeDefaultPreferences() {
 		final IPreferenceStore store = new ScopedPreferenceStore(InstanceScope.INSTANCE, PreferenceConstants.QUALIFIER);
 		store.setDefault(PreferenceConstants.P_ALLOCATION_SIZE, PreferenceConstants.P_ALLOCATION_SIZE_DEFAULT_VALUE);
+		store.setDefault(PreferenceConstants.P_PARALLEL_TYPE_LOADING,
+				PreferenceConstants.P_PARALLEL_TYPE_LOADING_DEFAULT_VALUE);
 
 		store.setDefault(PreferenceConstants.MARGIN_TOP_BOTTOM, PreferenceConstants.MARGIN_TOP_BOTTOM_DEFAULT_VALUE);
 		store.setDefault(PreferenceConstants.MARGIN_LEFT_RIGHT, PreferenceConstants.MARGIN_LEFT_RIGHT_DEFAULT_VALUE);
@@ -47,9 +47,11 @@
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.fordiac.ide.model.IdentifierVerifier;
 import org.eclipse.fordiac.ide.model.Messages;
+import org.eclipse.fordiac.ide.model.PreferenceConstants;
 import org.eclipse.fordiac.ide.model.buildpath.Buildpath;
 import org.eclipse.fordiac.ide.model.buildpath.util.BuildpathUtil;
 import org.eclipse.fordiac.ide.model.errormarker.ErrorMarkerBuilder;
@@ -65,6 +67,7 @@
 import org.eclipse.fordiac.ide.model.typelibrary.impl.ErrorFBTypeEntryImpl;
 import org.eclipse.fordiac.ide.model.typelibrary.impl.ErrorSubAppTypeEntryImpl;
 import org.eclipse.fordiac.ide.model.typelibrary.impl.TypeEntryFactory;
+import org.eclipse.fordiac.ide.model.typelibrary.impl.TypeLibraryIndex;
 import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
 
 public final class TypeLibrary {
@@ -82,10 +85,15 @@ public final class TypeLibrary {
 	private final Map<String, SystemEntry> systems = new ConcurrentHashMap<>();
 	private final Map<String, GlobalConstantsEntry> globalConstants = new ConcurrentHashMap<>();
 	private final Map<String, TypeEntry> programTypes = new ConcurrentHashMap<>();
+	// secondary indexes of the program types by plain type name and by package
+	private final Map<String, Set<TypeEntry>> programTypesByName = new ConcurrentHashMap<>();
+	private final Map<String, Set<TypeEntry>> programTypesByPackage = new ConcurrentHashMap<>();
 	private final Map<String, TypeEntry> errorTypes = new ConcurrentHashMap<>();
 	private final Map<IFile, TypeEntry> fileMap = new ConcurrentHashMap<>();
 	private final Map<String, AtomicInteger> packages = new ConcurrentHashMap<>();
 	private final Queue<TypeEntry> duplicates = new ConcurrentLinkedQueue<>();
+	// only present while the project is scanned for type files
+	private volatile TypeLibraryIndex index;
 
 	public Collection<AdapterTypeEntry> getAdapterTypes() {
 		return Collections.unmodifiableCollection(adapterTypes.values());
@@ -203,11 +211,14 @@ public void reload() {
 		globalConstants.clear();
 		dataTypeLib.clear();
 		programTypes.clear();
+		programTypesByName.clear();
+		programTypesByPackage.clear();
 		fileMap.clear();
 		packages.clear();
 		deleteTypeLibraryMarkers(project);
 		buildpath = BuildpathUtil.loadBuildpath(project);
-		checkAdditions(project);
+		checkAdditionsIndexed();
+		warmUpTypes();
 	}
 
 	public DataTypeLibrary getDataTypeLibrary() {
@@ -227,7 +238,7 @@ public Buildpath getBuildpath() {
 		this.project = project;
 		if (project != null && project.isAccessible()) {
 			buildpath = BuildpathUtil.loadBuildpath(project);
-			checkAdditions(project);
+			checkAdditionsIndexed();
 		}
 	}
 
@@ -235,7 +246,7 @@ public TypeEntry createTypeEntry(final IFile file) {
 		if (BuildpathUtil.findSourceFolder(buildpath, file).isEmpty()) {
 			return null;
 		}
-		final TypeEntry entry = fileMap.computeIfAbsent(file, TypeEntryFactory.INSTANCE::createTypeEntry);
+		final TypeEntry entry = fileMap.computeIfAbsent(file, this::createNewTypeEntry);
 		if (entry != null) {
 			final Optional<String> message = IdentifierVerifier.verifyIdentifier(entry.getTypeName());
 			if (message.isEmpty()) {
@@ -247,6 +258,15 @@ public TypeEntry createTypeEntry(final IFile file) {
 		return entry;
 	}
 
+	private TypeEntry createNewTypeEntry(final IFile file) {
+		final TypeEntry entry = TypeEntryFactory.INSTANCE.createTypeEntry(file);
+		final TypeLibraryIndex currentIndex = index;
+		if (entry != null && currentIndex != null) {
+			currentIndex.restore(entry);
+		}
+		return entry;
+	}
+
 	public TypeEntry createErrorTypeEntry(final String typeName, final EClass typeClass) {
 		return errorTypes.computeIfAbsent(typeName.toLowerCase(), name -> {
 			final FBType fbType = (FBType) LibraryElementFactory.eINSTANCE.create(typeClass);
@@ -371,12 +391,40 @@ protected void removePackageNameReference(final String packageName) {
 
 	protected boolean addProgramTypeEntry(final TypeEntry entry) {
 		final String fullTypeName = entry.getFullTypeName().toLowerCase();
-		return programTypes.putIfAbsent(fullTypeName, entry) == null;
+		if (programTypes.putIfAbsent(fullTypeName, entry) == null) {
+			addToIndex(programTypesByName, PackageNameHelper.extractPlainTypeName(fullTypeName), entry);
+			addToIndex(programTypesByPackage, PackageNameHelper.extractPackageName(fullTypeName), entry);
+			return true;
+		}
+		return false;
 	}
 
 	protected boolean removeProgramTypeEntry(final TypeEntry entry) {
+		// derive all keys from the full type name, as the plain type name may
+		// already be updated when the entry is renamed
 		final String fullTypeName = entry.getFullTypeName().toLowerCase();
-		return programTypes.remove(fullTypeName, entry);
+		if (programTypes.remove(fullTypeName, entry)) {
+			removeFromIndex(programTypesByName, PackageNameHelper.extractPlainTypeName(fullTypeName), entry);
+			removeFromIndex(programTypesByPackage, PackageNameHelper.extractPackageName(fullTypeName), entry);
+			return true;
+		}
+		return false;
+	}
+
+	private static void addToIndex(final Map<String, Set<TypeEntry>> index, final String key, final TypeEntry entry) {
+		index.compute(key, (k, entries) -> {
+			final Set<TypeEntry> result = (entries != null) ? entries : ConcurrentHashMap.newKeySet();
+			result.add(entry);
+			return result;
+		});
+	}
+
+	private static void removeFromIndex(final Map<String, Set<TypeEntry>> index, final String key,
+			final TypeEntry entry) {
+		index.computeIfPresent(key, (k, entries) -> {
+			entries.remove(entry);
+			return entries.isEmpty() ? null : entries;
+		});
 	}
 
 	void refresh() {
@@ -388,7 +436,19 @@ void refresh() {
 
 		buildpath = BuildpathUtil.loadBuildpath(project);
 		checkDeletions();
-		checkAdditions(project);
+		checkAdditionsIndexed();
+		warmUpTypes();
+	}
+
+	/**
+	 * Load all types in the background if parallel type loading is enabled in the
+	 * model preferences.
+	 */
+	private void warmUpTypes() {
+		if (InstanceScope.INSTANCE.getNode(PreferenceConstants.QUALIFIER).getBoolean(
+				PreferenceConstants.P_PARALLEL_TYPE_LOADING, PreferenceConstants.P_PARALLEL_TYPE_LOADING_DEFAULT_VALUE)) {
+			new TypeLibraryWarmUpJob(this, fileMap.values()).schedule();
+		}
 	}
 
 	private void checkDeletions() {
@@ -414,6 +474,20 @@ private boolean exists(final TypeEntry entry) {
 				&& BuildpathUtil.findSourceFolder(buildpath, entry.getFile()).isPresent();
 	}
 
+	/**
+	 * Scan the whole project for new type files. Names of unchanged files are taken
+	 * from the persistent type library index, which is updated afterwards.
+	 */
+	private void checkAdditionsIndexed() {
+		index = TypeLibraryIndex.load(project);
+		try {
+			checkAdditions(project);
+			index.save(fileMap.values());
+		} finally {
+			index = null;
+		}
+	}
+
 	private void checkAdditions(final IContainer container) {
 		try {
 			final IResource[] members = container.members();
@@ -442,9 +516,20 @@ public TypeEntry find(final String name) {
 	}
 
 	public List<TypeEntry> findUnqualified(final String name) {
-		final String unqualifiedName = PackageNameHelper.extractPlainTypeName(name);
-		return programTypes.values().stream().filter(entry -> unqualifiedName.equalsIgnoreCase(entry.getTypeName()))
-				.toList();
+		final String unqualifiedName = PackageNameHelper.extractPlainTypeName(name).toLowerCase();
+		return List.copyOf(programTypesByName.getOrDefault(unqualifiedName, Collections.emptySet()));
+	}
+
+	/**
+	 * Get the program types (i.e., FB, subapp, and data types) directly contained
+	 * in the given package.
+	 *
+	 * @param packageName the package name, the empty string for types without
+	 *                    package
+	 * @return the program types of the package
+	 */
+	public List<TypeEntry> findInPackage(final String packageName) {
+		return List.copyOf(programTypesByPackage.getOrDefault(packageName.toLowerCase(), Collections.emptySet()));
 	}
 
 	private boolean addBlockTypeEntry(final TypeEntry entry) {
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.fordiac.ide.model.Messages;
+
+/**
+ * Background job importing all types of a type library in parallel.
+ *
+ * Types are normally loaded lazily when they are first needed. After a full
+ * reload or refresh of a large type library this job can be used to load all
+ * types upfront on the common fork-join pool. The types are loaded in stages
+ * so that the types other types depend on (i.e., data types and adapters) are
+ * already available when the function block types are imported. Systems are
+ * not loaded, they are opened on demand by the editors.
+ */
+final class TypeLibraryWarmUpJob extends Job {
+
+	private final Collection<TypeEntry> entries;
+
+	TypeLibraryWarmUpJob(final TypeLibrary typeLibrary, final Collection<TypeEntry> entries) {
+		super(MessageFormat.format(Messages.TypeLibrary_LoadingTypes, typeLibrary.getProject().getName()));
+		this.entries = List.copyOf(entries);
+		setSystem(false);
+		setPriority(LONG);
+	}
+
+	@Override
+	protected IStatus run(final IProgressMonitor monitor) {
+		final Map<Integer, List<TypeEntry>> stages = entries.stream()
+				.filter(entry -> !(entry instanceof SystemEntry))
+				.collect(Collectors.groupingBy(TypeLibraryWarmUpJob::getStage, TreeMap::new, Collectors.toList()));
+		final SubMonitor progress = SubMonitor.convert(monitor, getName(),
+				stages.values().stream().mapToInt(List::size).sum());
+		try {
+			for (final List<TypeEntry> stage : stages.values()) {
+				stage.parallelStream().forEach(entry -> load(entry, progress));
+			}
+		} catch (final OperationCanceledException e) {
+			return Status.CANCEL_STATUS;
+		}
+		return Status.OK_STATUS;
+	}
+
+	private static void load(final TypeEntry entry, final SubMonitor progress) {
+		if (progress.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		entry.getType();
+		// the progress monitor is not thread-safe
+		synchronized (progress) {
+			progress.worked(1);
+		}
+	}
+
+	private static int getStage(final TypeEntry entry) {
+		if (entry instanceof DataTypeEntry) {
+			return 0;
+		}
+		if (entry instanceof AdapterTypeEntry || entry instanceof AttributeTypeEntry) {
+			return 1;
+		}
+		// subapp types may contain instances of all other block types
+		return (entry instanceof SubAppTypeEntry) ? 3 : 2;
+	}
+}
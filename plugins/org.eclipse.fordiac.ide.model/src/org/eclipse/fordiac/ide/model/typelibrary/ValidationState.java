@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
+
+/**
+ * Persistent state of the last validation of the types and systems of a
+ * project.
+ *
+ * For every type file the state stores the hash of its content at the time of
+ * the last validation together with its type name and the names of the types it
+ * depends on (see {@link TypeEntry#getDependencies()}). From this a reverse
+ * dependency graph is built, so that after a change only the changed files and
+ * all files that directly or indirectly depend on them have to be validated
+ * again (e.g., all FB types and systems using a changed data type or adapter).
+ * Dependencies are recorded by name, as this also covers types that could not
+ * be resolved: adding a file for such a type affects all files referencing its
+ * name. The validation results themselves are kept in the persistent problem
+ * markers of the files.
+ *
+ * The state is kept in the project's working location inside the workspace
+ * meta data and is therefore never shared with the project content.
+ */
+public final class ValidationState {
+
+	private static final String PLUGIN_ID = "org.eclipse.fordiac.ide.model"; //$NON-NLS-1$
+	private static final String STATE_FILE_NAME = "validation.state"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x34445653; // "4DVS"
+	private static final int VERSION = 2;
+
+	private record FileState(String hash, String typeName, List<String> dependencies) {
+	}
+
+	private final Path stateFile;
+	private final Map<String, FileState> states;
+
+	private ValidationState(final Path stateFile, final Map<String, FileState> states) {
+		this.stateFile = stateFile;
+		this.states = states;
+	}
+
+	/**
+	 * Load the validation state of the given project.
+	 *
+	 * @param project the project
+	 * @return the state, empty if the project was not validated before
+	 */
+	public static ValidationState load(final IProject project) {
+		final Path stateFile = getStateFile(project);
+		final Map<String, FileState> states = new HashMap<>();
+		if (stateFile != null && Files.isRegularFile(stateFile)) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile)))) {
+				readStates(in, states);
+			} catch (final IOException e) {
+				// a broken state is not an error, we just have to validate all files again
+				states.clear();
+				FordiacLogHelper.logInfo("Discarding validation state of " + project.getName() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+						+ e.getMessage());
+			}
+		}
+		return new ValidationState(stateFile, states);
+	}
+
+	/**
+	 * Get the type files that have to be validated again.
+	 *
+	 * These are all files that changed or were added since the last validation
+	 * and all files depending on them or on a removed file. A file depends on
+	 * another one if it references the type name of the old or the current content
+	 * of this file. Only changed files are loaded to get their current
+	 * dependencies, the dependencies of unchanged files are taken from the state.
+	 *
+	 * @param typeLibrary the type library of the project
+	 * @return the affected type files
+	 */
+	public Set<IFile> getAffectedFiles(final TypeLibrary typeLibrary) {
+		final Map<String, TypeEntry> entries = getEntries(typeLibrary);
+		final Set<String> changed = new HashSet<>();
+		final Map<String, List<String>> dependencies = new HashMap<>();
+		entries.forEach((path, entry) -> {
+			final FileState state = states.get(path);
+			if (state != null && state.hash().equals(getContentHash(entry.getFile()))) {
+				dependencies.put(path, state.dependencies());
+			} else {
+				changed.add(path);
+				dependencies.put(path, getDependencies(entry));
+			}
+		});
+		// removed files
+		states.keySet().stream().filter(path -> !entries.containsKey(path)).forEach(changed::add);
+
+		// files by the type names they depend on
+		final Map<String, Set<String>> dependents = new HashMap<>();
+		dependencies.forEach((path, pathDependencies) -> pathDependencies.forEach(
+				dependency -> dependents.computeIfAbsent(dependency, key -> new HashSet<>()).add(path)));
+
+		final Set<String> affected = new LinkedHashSet<>();
+		final Deque<String> pending = new ArrayDeque<>(changed);
+		while (!pending.isEmpty()) {
+			final String path = pending.poll();
+			if (affected.add(path)) {
+				for (final String typeName : getTypeNames(path, entries.get(path))) {
+					pending.addAll(dependents.getOrDefault(typeName, Set.of()));
+				}
+			}
+		}
+		return affected.stream().map(entries::get).filter(Objects::nonNull).map(TypeEntry::getFile)
+				.collect(LinkedHashSet::new, Set::add, Set::addAll);
+	}
+
+	/**
+	 * Record the current state of all type files as validated and write the
+	 * state.
+	 *
+	 * @param typeLibrary the type library of the project
+	 */
+	public void save(final TypeLibrary typeLibrary) {
+		final Map<String, FileState> newStates = new HashMap<>();
+		getEntries(typeLibrary).forEach((path, entry) -> {
+			final String hash = getContentHash(entry.getFile());
+			if (hash != null) {
+				final FileState state = states.get(path);
+				newStates.put(path,
+						state != null && state.hash().equals(hash) ? state
+								: new FileState(hash, getTypeName(entry), getDependencies(entry)));
+			}
+		});
+		states.clear();
+		states.putAll(newStates);
+		if (stateFile == null) {
+			return;
+		}
+
+		final Path tmpFile = stateFile.resolveSibling(STATE_FILE_NAME + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+				writeStates(out, states);
+			}
+			Files.move(tmpFile, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (final IOException e) {
+			FordiacLogHelper.logWarning("Could not write validation state: " + e.getMessage(), e); //$NON-NLS-1$
+		}
+	}
+
+	/** @return the type entries with a file in the project by project relative path */
+	private static Map<String, TypeEntry> getEntries(final TypeLibrary typeLibrary) {
+		final Map<String, TypeEntry> entries = new HashMap<>();
+		for (final TypeEntry entry : typeLibrary.getAllTypes()) {
+			final IFile file = entry.getFile();
+			if (file != null && file.exists() && file.getProject().equals(typeLibrary.getProject())) {
+				entries.put(getKey(file), entry);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * @return the names of the types the type depends on, including types without
+	 *         a file (i.e., types that could not be resolved)
+	 */
+	private static List<String> getDependencies(final TypeEntry entry) {
+		final Set<String> dependencies = new LinkedHashSet<>();
+		for (final TypeEntry dependency : entry.getDependencies()) {
+			final String typeName = getTypeName(dependency);
+			if (!typeName.isEmpty()) {
+				dependencies.add(typeName);
+			}
+		}
+		return new ArrayList<>(dependencies);
+	}
+
+	/** @return the type names of the file when it was validated and now */
+	private Set<String> getTypeNames(final String path, final TypeEntry entry) {
+		final Set<String> typeNames = new HashSet<>();
+		final FileState state = states.get(path);
+		if (state != null) {
+			typeNames.add(state.typeName());
+		}
+		if (entry != null) {
+			typeNames.add(getTypeName(entry));
+		}
+		return typeNames;
+	}
+
+	/** @return the full type name, which is case insensitive */
+	private static String getTypeName(final TypeEntry entry) {
+		final String fullTypeName = entry.getFullTypeName();
+		return fullTypeName != null ? fullTypeName.toUpperCase() : ""; //$NON-NLS-1$
+	}
+
+	private static String getKey(final IFile file) {
+		return file.getProjectRelativePath().toString();
+	}
+
+	private static String getContentHash(final IFile file) {
+		final IPath location = file.getLocation();
+		if (location == null) {
+			return null;
+		}
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(location.toFile().toPath())));
+		} catch (final IOException | NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	private static void readStates(final DataInputStream in, final Map<String, FileState> states)
+			throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			return; // state from a different version, validate all files again
+		}
+		final int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			final String path = in.readUTF();
+			final String hash = in.readUTF();
+			final String typeName = in.readUTF();
+			final int dependencyCount = in.readInt();
+			final List<String> dependencies = new ArrayList<>(dependencyCount);
+			for (int j = 0; j < dependencyCount; j++) {
+				dependencies.add(in.readUTF());
+			}
+			states.put(path, new FileState(hash, typeName, dependencies));
+		}
+	}
+
+	private static void writeStates(final DataOutputStream out, final Map<String, FileState> states)
+			throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(states.size());
+		for (final Map.Entry<String, FileState> state : states.entrySet()) {
+			out.writeUTF(state.getKey());
+			out.writeUTF(state.getValue().hash());
+			out.writeUTF(state.getValue().typeName());
+			final Collection<String> dependencies = state.getValue().dependencies();
+			out.writeInt(dependencies.size());
+			for (final String dependency : dependencies) {
+				out.writeUTF(dependency);
+			}
+		}
+	}
+
+	private static Path getStateFile(final IProject project) {
+		if (project == null || !project.isAccessible()) {
+			return null;
+		}
+		try {
+			final IPath location = project.getWorkingLocation(PLUGIN_ID);
+			return location != null ? location.append(STATE_FILE_NAME).toFile().toPath() : null;
+		} catch (final IllegalStateException e) {
+			// no workspace location available (e.g., headless tests)
+			return null;
+		}
+	}
+}
@@ -163,6 +163,21 @@ private void setFullTypeName(final String fullTypeName) {
 		}
 	}
 
+	/**
+	 * Set the type name as stored in the type library index without scanning the
+	 * file. Only allowed before the entry is added to a type library.
+	 *
+	 * @param typeName     the plain type name
+	 * @param fullTypeName the type name including the package
+	 */
+	void restoreTypeName(final String typeName, final String fullTypeName) {
+		if (typeLibrary != null) {
+			throw new IllegalStateException("Cannot restore type name while added to type library"); //$NON-NLS-1$
+		}
+		setTypeName(typeName);
+		setFullTypeName(fullTypeName);
+	}
+
 	@Override
 	public String getComment() {
 		String result = comment.get();
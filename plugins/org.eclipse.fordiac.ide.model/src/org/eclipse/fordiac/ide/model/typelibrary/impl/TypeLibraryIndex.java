@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeEntry;
+import org.eclipse.fordiac.ide.ui.FordiacLogHelper;
+
+/**
+ * Persistent summary of the type entries of a project.
+ *
+ * For each type file the index stores the modification stamps of the file
+ * together with the kind of type entry and its type name. When a project is
+ * opened, type entries for files that did not change since the index was
+ * written get their names from the index instead of scanning the file
+ * contents. The type itself is still only loaded when it is first requested.
+ *
+ * The index is kept in the project's working location inside the workspace
+ * meta data and is therefore never shared with the project content.
+ */
+public final class TypeLibraryIndex {
+
+	private static final String PLUGIN_ID = "org.eclipse.fordiac.ide.model"; //$NON-NLS-1$
+	private static final String INDEX_FILE_NAME = "typelibrary.index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x34444943; // "4DIC"
+	private static final int VERSION = 1;
+
+	private record IndexRecord(long modificationStamp, long localTimeStamp, String entryClass, String typeName,
+			String fullTypeName) {
+
+		boolean matches(final IFile file, final TypeEntry entry) {
+			return modificationStamp == file.getModificationStamp() && localTimeStamp == file.getLocalTimeStamp()
+					&& entryClass.equals(entry.getClass().getName());
+		}
+	}
+
+	private final Path indexFile;
+	private final Map<String, IndexRecord> records;
+	private int hits;
+
+	private TypeLibraryIndex(final Path indexFile, final Map<String, IndexRecord> records) {
+		this.indexFile = indexFile;
+		this.records = records;
+	}
+
+	/**
+	 * Load the index for the given project.
+	 *
+	 * @param project the project of the type library
+	 * @return the index, empty if the project has no or an unreadable index
+	 */
+	public static TypeLibraryIndex load(final IProject project) {
+		final Path indexFile = getIndexFile(project);
+		final Map<String, IndexRecord> records = new HashMap<>();
+		if (indexFile != null && Files.isRegularFile(indexFile)) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+				readRecords(in, records);
+			} catch (final IOException e) {
+				// a broken index is not an error, we just have to scan all files again
+				records.clear();
+				FordiacLogHelper.logInfo("Discarding type library index of " + project.getName() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+						+ e.getMessage());
+			}
+		}
+		return new TypeLibraryIndex(indexFile, records);
+	}
+
+	/**
+	 * Restore the type name of the given entry from the index if its file did not
+	 * change since the index was written.
+	 *
+	 * @param entry the freshly created type entry
+	 * @return true if the entry could be restored from the index
+	 */
+	public synchronized boolean restore(final TypeEntry entry) {
+		final IFile file = entry.getFile();
+		if (file == null || !(entry instanceof final AbstractTypeEntryImpl entryImpl)) {
+			return false;
+		}
+		final IndexRecord indexRecord = records.get(file.getProjectRelativePath().toString());
+		if (indexRecord != null && indexRecord.matches(file, entry)) {
+			entryImpl.restoreTypeName(indexRecord.typeName(), indexRecord.fullTypeName());
+			hits++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Write the index for the given type entries if it differs from the loaded
+	 * one.
+	 *
+	 * @param entries all type entries of the type library
+	 */
+	public synchronized void save(final Collection<TypeEntry> entries) {
+		if (indexFile == null || (hits == records.size() && hits == entries.size())) {
+			return; // nothing changed since the index was written
+		}
+		final Path tmpFile = indexFile.resolveSibling(INDEX_FILE_NAME + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+				writeRecords(out, entries);
+			}
+			Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (final IOException e) {
+			FordiacLogHelper.logWarning("Could not write type library index: " + e.getMessage(), e); //$NON-NLS-1$
+		}
+	}
+
+	private static void readRecords(final DataInputStream in, final Map<String, IndexRecord> records)
+			throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			return; // index from a different version, rebuild it
+		}
+		final int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			final String path = in.readUTF();
+			records.put(path,
+					new IndexRecord(in.readLong(), in.readLong(), in.readUTF(), in.readUTF(), in.readUTF()));
+		}
+	}
+
+	private static void writeRecords(final DataOutputStream out, final Collection<TypeEntry> entries)
+			throws IOException {
+		final List<TypeEntry> indexable = entries.stream().filter(TypeLibraryIndex::isIndexable).toList();
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(indexable.size());
+		for (final TypeEntry entry : indexable) {
+			final IFile file = entry.getFile();
+			out.writeUTF(file.getProjectRelativePath().toString());
+			out.writeLong(file.getModificationStamp());
+			out.writeLong(file.getLocalTimeStamp());
+			out.writeUTF(entry.getClass().getName());
+			out.writeUTF(entry.getTypeName());
+			out.writeUTF(entry.getFullTypeName());
+		}
+	}
+
+	private static boolean isIndexable(final TypeEntry entry) {
+		final IFile file = entry.getFile();
+		return file != null && file.exists() && file.getModificationStamp() != IResource.NULL_STAMP
+				&& entry.getTypeName() != null && entry.getFullTypeName() != null;
+	}
+
+	private static Path getIndexFile(final IProject project) {
+		if (project == null || !project.isAccessible()) {
+			return null;
+		}
+		try {
+			final IPath location = project.getWorkingLocation(PLUGIN_ID);
+			return location != null ? location.append(INDEX_FILE_NAME).toFile().toPath() : null;
+		} catch (final IllegalStateException e) {
+			// no workspace location available (e.g., headless tests)
+			return null;
+		}
+	}
+}
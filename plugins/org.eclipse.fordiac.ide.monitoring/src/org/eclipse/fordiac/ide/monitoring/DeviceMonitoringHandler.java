@@ -10,6 +10,10 @@
  *   Alois Zoitl - initial API and implementation and/or initial documentation
  *   Alois Zoitl - Harmonized deployment and monitoring
  *   Michael Oberlehner - added subapp monitoring
+ *   agent - poll devices from a shared scheduler with adaptive intervals
+ *         - stream watch values without building a response model
+ *         - indexed lookup and update of changed watches only
+ *         - index watches by resource, FB and port name
  *******************************************************************************/
 package org.eclipse.fordiac.ide.monitoring;
 
@@ -17,16 +21,16 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
 
-import org.eclipse.fordiac.ide.deployment.devResponse.Data;
-import org.eclipse.fordiac.ide.deployment.devResponse.FB;
-import org.eclipse.fordiac.ide.deployment.devResponse.Port;
-import org.eclipse.fordiac.ide.deployment.devResponse.Response;
 import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
 import org.eclipse.fordiac.ide.deployment.interactors.DeviceManagementInteractorFactory;
 import org.eclipse.fordiac.ide.deployment.interactors.IDeviceManagementInteractor;
 import org.eclipse.fordiac.ide.deployment.monitoringbase.MonitoringBaseElement;
+import org.eclipse.fordiac.ide.deployment.monitoringbase.PortElement;
+import org.eclipse.fordiac.ide.model.libraryElement.AdapterFB;
 import org.eclipse.fordiac.ide.model.libraryElement.Device;
 import org.eclipse.fordiac.ide.model.libraryElement.Event;
 import org.eclipse.fordiac.ide.model.libraryElement.IInterfaceElement;
@@ -39,12 +43,29 @@
 
 class DeviceMonitoringHandler implements Runnable {
 
+	/* upper limit for stretching the polling interval as multiple of the base interval */
+	private static final int MAX_INTERVAL_FACTOR = 10;
+	/* number of watches after which the polling interval is extended by one base interval */
+	private static final int WATCHES_PER_INTERVAL_STEP = 500;
+	/* the polling interval should be at least this multiple of the last response time */
+	private static final int LATENCY_FACTOR = 2;
+	/* upper limit for the delay between reconnection attempts in ms */
+	private static final long MAX_RECONNECT_DELAY = 30_000;
+
 	private final Device device;
 	private final IDeviceManagementInteractor devInteractor;
 	private final SystemMonitoringData systemMonData;
-	private final Thread thread;
 
-	private boolean running = true;
+	private boolean running = false;
+	private ScheduledFuture<?> nextPoll;
+	private int baseInterval;
+	private long reconnectDelay;
+	private int watchCount;
+	private boolean valuesCleared = false;
+
+	/* index from resource, FB and port name to the watched elements of this device */
+	private Map<String, Map<String, Map<String, MonitoringElement>>> watchIndex = Map.of();
+	private int watchIndexVersion = -1;
 
 	private synchronized void setRunning(final boolean val) {
 		running = val;
@@ -58,11 +79,6 @@ public DeviceMonitoringHandler(final Device device, final SystemMonitoringData s
 		this.device = device;
 		devInteractor = DeviceManagementInteractorFactory.INSTANCE.getDeviceManagementInteractor(device);
 		this.systemMonData = systemMonData;
-		this.thread = new Thread(this);
-	}
-
-	public Thread getThread() {
-		return thread;
 	}
 
 	public IDeviceManagementInteractor getDevMgmInteractor() {
@@ -70,69 +86,193 @@ public IDeviceManagementInteractor getDevMgmInteractor() {
 	}
 
 	public synchronized void enable() {
-		setRunning(true);
-		thread.start();
+		if (!running && devInteractor != null) {
+			setRunning(true);
+			baseInterval = PreferenceConstants.getPollingInterval();
+			reconnectDelay = baseInterval;
+			nextPoll = MonitoringScheduler.scheduleStaggered(this, baseInterval);
+		}
 	}
 
 	public synchronized void disable() {
-		setRunning(running);
+		setRunning(false);
+		if (null != nextPoll) {
+			nextPoll.cancel(false);
+			nextPoll = null;
+		}
+	}
+
+	private synchronized void scheduleNextPoll(final long delay) {
+		if (running) {
+			nextPoll = MonitoringScheduler.schedule(this, delay);
+		}
 	}
 
 	@Override
 	public void run() {
-		if (devInteractor != null) {
-			final int pollingIntervall = PreferenceConstants.getPollingInterval();
-			while (isRunning()) {
-				try {
-					Thread.sleep(pollingIntervall);
-				} catch (final InterruptedException e) {
-					Thread.currentThread().interrupt(); // mark interruption
-					FordiacLogHelper.logError(e.getMessage(), e);
-				}
-				if (devInteractor.isConnected()) {
-					try {
-						final Response resp = devInteractor.readWatches();
-						if (null != resp) {
-							updateWatches(resp);
-						}
-					} catch (final DeploymentException e) {
-						handleDeviceIssue();
-					}
-				} else {
-					setRunning(false);
-					clearMonitoredElements();
-				}
-			}
+		if (!isRunning()) {
+			return;
+		}
+		try {
+			poll();
+		} catch (final RuntimeException e) {
+			// keep monitoring the device, the growing delay avoids flooding the log
+			FordiacLogHelper.logError("Monitoring of device " + device.getName() + " failed", e); //$NON-NLS-1$ //$NON-NLS-2$
+			scheduleNextPoll(nextReconnectDelay());
 		}
 	}
 
-	private void updateWatches(final Response resp) {
-		if (resp.getWatches() != null) {
-			for (final org.eclipse.fordiac.ide.deployment.devResponse.Resource res : resp.getWatches().getResources()) {
-				final String resName = device.getName() + "." + res.getName() + "."; //$NON-NLS-1$ //$NON-NLS-2$
-				updateFbs(res, resName);
+	private void poll() {
+		if (devInteractor.isConnected()) {
+			final long start = System.nanoTime();
+			try {
+				updateWatches();
+				reconnectDelay = baseInterval;
+				scheduleNextPoll(getPollingInterval((System.nanoTime() - start) / 1_000_000));
+			} catch (final DeploymentException e) {
+				handleDeviceIssue();
+				scheduleNextPoll(nextReconnectDelay());
 			}
+		} else if (reconnect()) {
+			scheduleNextPoll(baseInterval);
+		} else {
+			// do not show stale values while the device is not reachable
+			clearMonitoredElements();
+			scheduleNextPoll(nextReconnectDelay());
 		}
 	}
 
-	public void updateFbs(final org.eclipse.fordiac.ide.deployment.devResponse.Resource res, final String resName) {
+	/**
+	 * Devices with many watches or slow responses are polled less often so that
+	 * monitoring does not saturate the device or the IDE.
+	 *
+	 * @param latency the time in ms the last poll took
+	 * @return the delay in ms until the next poll
+	 */
+	private long getPollingInterval(final long latency) {
+		final long watchInterval = (long) baseInterval * (1 + watchCount / WATCHES_PER_INTERVAL_STEP);
+		final long interval = Math.max(watchInterval, LATENCY_FACTOR * latency);
+		return Math.min(interval, (long) baseInterval * MAX_INTERVAL_FACTOR);
+	}
+
+	private long nextReconnectDelay() {
+		final long delay = reconnectDelay;
+		reconnectDelay = Math.min(2 * reconnectDelay, Math.max(MAX_RECONNECT_DELAY, baseInterval));
+		return delay;
+	}
+
+	private boolean reconnect() {
+		try {
+			devInteractor.connect();
+		} catch (final DeploymentException e) {
+			return false;
+		}
+		reconnectDelay = baseInterval;
+		valuesCleared = false;
+		systemMonData.getMonitoredElements().stream()
+				.filter(el -> el.getPort().getDevice().equals(device) && el instanceof MonitoringElement)
+				.forEach(systemMonData::sendAddWatch);
+		return true;
+	}
 
+	/** the values of a watched port as reported by the device */
+	record WatchValue(String value, String time, String forced) {
+	}
+
+	private void updateWatches() throws DeploymentException {
+		updateWatchIndex();
 		final HashMap<String, SubappGroup> collectedGroups = new HashMap<>();
-		for (final FB fb : res.getFbs()) {
-			final String fbName = resName + fb.getName() + "."; //$NON-NLS-1$
-			for (final Port port : fb.getPorts()) {
-				final String portString = fbName + port.getName();
-				final MonitoringBaseElement element = systemMonData.getMonitoringElementByPortString(portString);
-				if (element instanceof final MonitoringElement monElement) {
-					updateMonitoringElement(monElement, port);
-					getMirroredVarInOutMonitoringElement(monElement)
-							.ifPresent(mirMonEl -> updateMonitoringElement(mirMonEl, port));
-					checkSubappGroups(collectedGroups, port, portString, monElement);
-				}
+		final int[] count = { 0 };
+		devInteractor.readWatches((res, fb, port, value, time, forced) -> {
+			count[0]++;
+			final MonitoringElement monElement = getWatchedElement(res, fb, port);
+			if (null != monElement && hasChanged(monElement, value, time, forced)) {
+				updatePort(monElement, new WatchValue(value, time, forced), collectedGroups);
+			}
+		});
+		watchCount = count[0];
+		updateSubappPorts(collectedGroups);
+	}
+
+	private MonitoringElement getWatchedElement(final String res, final String fb, final String port) {
+		final Map<String, Map<String, MonitoringElement>> fbs = watchIndex.get(res);
+		if (null != fbs) {
+			final Map<String, MonitoringElement> ports = fbs.get(fb);
+			if (null != ports) {
+				return ports.get(port);
 			}
 		}
+		return null;
+	}
 
-		updateSubappPorts(collectedGroups);
+	private void updatePort(final MonitoringElement monElement, final WatchValue value,
+			final HashMap<String, SubappGroup> collectedGroups) {
+		updateMonitoringElement(monElement, value);
+		getMirroredVarInOutMonitoringElement(monElement)
+				.ifPresent(mirMonEl -> updateMonitoringElement(mirMonEl, value));
+		checkSubappGroups(collectedGroups, value, monElement.getPort().getPortString(), monElement);
+	}
+
+	/**
+	 * Rebuild the watch index if watches have been added or removed since the last
+	 * poll.
+	 */
+	private void updateWatchIndex() {
+		final int version = systemMonData.getWatchesVersion();
+		if (version == watchIndexVersion) {
+			return;
+		}
+		final Map<String, Map<String, Map<String, MonitoringElement>>> index = new HashMap<>();
+		// the map is concurrently changed by the UI, a change during the iteration
+		// increments the version again so that the index is rebuilt with the next poll
+		systemMonData.getMonitoredElementsPerPortStrings().values().forEach(element -> {
+			if (element instanceof final MonitoringElement monElement
+					&& device.equals(element.getPort().getDevice())) {
+				final PortElement port = monElement.getPort();
+				index.computeIfAbsent(port.getResource().getName(), res -> new HashMap<>())
+						.computeIfAbsent(getFBName(port), fb -> new HashMap<>())
+						.put(port.getInterfaceElement().getName(), monElement);
+			}
+		});
+		watchIndex = index;
+		watchIndexVersion = version;
+	}
+
+	/**
+	 * The name of the FB as reported by the device, i.e., the hierarchy of the port
+	 * without the trailing separator, extended by the adapter name for ports of
+	 * adapters.
+	 */
+	private static String getFBName(final PortElement port) {
+		final String hierarchy = port.getHierarchy();
+		final String fbName = hierarchy.endsWith(".") ? hierarchy.substring(0, hierarchy.length() - 1) //$NON-NLS-1$
+				: hierarchy;
+		final IInterfaceElement ie = port.getInterfaceElement();
+		if (ie.eContainer() != null && ie.eContainer().eContainer() instanceof AdapterFB
+				&& port.eContainer() instanceof final PortElement adapterPort) {
+			return fbName + "." + adapterPort.getInterfaceElement().getName(); //$NON-NLS-1$
+		}
+		return fbName;
+	}
+
+	private static boolean hasChanged(final MonitoringElement element, final String value, final String time,
+			final String forced) {
+		if (!Objects.equals(value, element.getCurrentValue())) {
+			return true;
+		}
+		if (null != forced && element.isForce() != forced.equals("true")) { //$NON-NLS-1$
+			return true;
+		}
+		final long timeAsLong = parseTime(time);
+		return element.getSec() != timeAsLong / 1000 || element.getUsec() != timeAsLong % 1000;
+	}
+
+	private static long parseTime(final String time) {
+		try {
+			return Long.parseLong(time);
+		} catch (final NumberFormatException nfe) {
+			return 0;
+		}
 	}
 
 	private Optional<MonitoringElement> getMirroredVarInOutMonitoringElement(final MonitoringElement monElement) {
@@ -144,7 +284,7 @@ private Optional<MonitoringElement> getMirroredVarInOutMonitoringElement(final M
 		return Optional.empty();
 	}
 
-	private void checkSubappGroups(final HashMap<String, SubappGroup> collectedGroups, final Port port,
+	private void checkSubappGroups(final HashMap<String, SubappGroup> collectedGroups, final WatchValue port,
 			String portString, final MonitoringElement element) {
 		List<MonitoringElement> subappPins = systemMonData.getSubappElements().get(portString);
 		if (element != null && subappPins == null) {
@@ -185,7 +325,7 @@ private void updateSubAppGroup(final SubappGroup subappGroup) {
 		String currentVal = ""; //$NON-NLS-1$
 
 		for (final MonitoringElement monitoringElement : subappGroup.collectedSubappPins) {
-			final Port port = subappGroup.getPort(monitoringElement);
+			final WatchValue port = subappGroup.getPort(monitoringElement);
 
 			if (port != null) {
 				updateMonitoringElement(monitoringElement, port);
@@ -266,20 +406,13 @@ private static void setSubappPinsToInconsistentState(final SubappGroup subappGro
 
 	}
 
-	private static void updateMonitoringElement(final MonitoringElement monitoringElement, final Port p) {
-		for (final Data d : p.getDataValues()) {
-			long timeAsLong = 0;
-			try {
-				timeAsLong = Long.parseLong(d.getTime());
-			} catch (final NumberFormatException nfe) {
-				timeAsLong = 0;
-			}
-			monitoringElement.setSec(timeAsLong / 1000);
-			monitoringElement.setUsec(timeAsLong % 1000);
-			monitoringElement.setCurrentValue(d.getValue());
-			if (d.getForced() != null) {
-				monitoringElement.setForce(d.getForced().equals("true")); //$NON-NLS-1$
-			}
+	private static void updateMonitoringElement(final MonitoringElement monitoringElement, final WatchValue d) {
+		final long timeAsLong = parseTime(d.time());
+		monitoringElement.setSec(timeAsLong / 1000);
+		monitoringElement.setUsec(timeAsLong % 1000);
+		monitoringElement.setCurrentValue(d.value());
+		if (d.forced() != null) {
+			monitoringElement.setForce(d.forced().equals("true")); //$NON-NLS-1$
 		}
 	}
 
@@ -294,6 +427,10 @@ private void handleDeviceIssue() {
 	}
 
 	private void clearMonitoredElements() {
+		if (valuesCleared) {
+			return;
+		}
+		valuesCleared = true;
 		systemMonData.getMonitoredElements().stream()
 				.filter(el -> (el.getPort().getDevice().equals(device) && (el instanceof MonitoringElement)))
 				.forEach(el -> ((MonitoringElement) el).setCurrentValue("")); //$NON-NLS-1$
@@ -302,17 +439,17 @@ private void clearMonitoredElements() {
 	public static class SubappGroup {
 
 		List<MonitoringElement> collectedSubappPins;
-		HashMap<MonitoringElement, Port> pins = new HashMap<>();
+		HashMap<MonitoringElement, WatchValue> pins = new HashMap<>();
 
 		public SubappGroup(final List<MonitoringElement> collectedSubappPins) {
 			this.collectedSubappPins = collectedSubappPins;
 		}
 
-		public Port getPort(final MonitoringElement e) {
+		public WatchValue getPort(final MonitoringElement e) {
 			return pins.get(e);
 		}
 
-		public void assignPort(final MonitoringElement e, final Port p) {
+		public void assignPort(final MonitoringElement e, final WatchValue p) {
 			for (final MonitoringElement monitoringElement : collectedSubappPins) {
 				if (monitoringElement instanceof final SubappMonitoringElement subAppME
 						&& subAppME.getAnchor().equals(e)) {
@@ -322,7 +459,7 @@ public void assignPort(final MonitoringElement e, final Port p) {
 			pins.put(e, p);
 		}
 
-		public void assignSubappPorts(final Port p, final String portString) {
+		public void assignSubappPorts(final WatchValue p, final String portString) {
 			for (final MonitoringElement monitoringElement : collectedSubappPins) {
 				if (monitoringElement instanceof final SubappMonitoringElement subAppME) {
 					final MonitoringBaseElement anchor = subAppME.getAnchor();
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.monitoring;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared scheduler for polling the watches of all monitored devices.
+ *
+ * Instead of a dedicated thread per device the device polls are scheduled as
+ * single tasks running on virtual threads. Each device computes its next poll
+ * time itself (see {@link DeviceMonitoringHandler}), the first poll of a device
+ * is randomly staggered within one polling interval so that devices do not all
+ * poll (and update the UI) at the same moment.
+ */
+final class MonitoringScheduler {
+
+	private static final int POOL_SIZE = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+	private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(POOL_SIZE,
+			Thread.ofVirtual().name("4diac-IDE monitoring-", 0).factory()); //$NON-NLS-1$
+
+	static ScheduledFuture<?> scheduleStaggered(final Runnable poll, final long interval) {
+		return schedule(poll, ThreadLocalRandom.current().nextLong(Math.max(1, interval)));
+	}
+
+	static ScheduledFuture<?> schedule(final Runnable poll, final long delay) {
+		return SCHEDULER.schedule(poll, delay, TimeUnit.MILLISECONDS);
+	}
+
+	private MonitoringScheduler() {
+		throw new UnsupportedOperationException("Utility class should not be instantiated!"); //$NON-NLS-1$
+	}
+}
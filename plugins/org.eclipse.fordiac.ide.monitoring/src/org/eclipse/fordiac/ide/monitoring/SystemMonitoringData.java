@@ -10,6 +10,7 @@
  *   Alois Zoitl - initial API and implementation and/or initial documentation
  *   Alois Zoitl - Harmonized deployment and monitoring
  *   Michael Oberlehner - added subapp monitoring
+ *   agent - concurrent maps of monitored elements for the device handlers
  *******************************************************************************/
 package org.eclipse.fordiac.ide.monitoring;
 
@@ -20,6 +21,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -45,13 +47,17 @@ public class SystemMonitoringData {
 
 	private final AutomationSystem system;
 
-	private final Map<IInterfaceElement, MonitoringBaseElement> monitoredElements = new HashMap<>();
-	private final Map<String, MonitoringBaseElement> monitoredElementsPerPortStrings = new HashMap<>();
+	/* changed by the UI and read by the device handlers polling the devices */
+	private final Map<IInterfaceElement, MonitoringBaseElement> monitoredElements = new ConcurrentHashMap<>();
+	private final Map<String, MonitoringBaseElement> monitoredElementsPerPortStrings = new ConcurrentHashMap<>();
 
 	private final Map<String, List<MonitoringElement>> subappElements = new HashMap<>();
 
 	private boolean monitoringEnabled = false;
 
+	/* incremented whenever the set of watched port strings changes */
+	private volatile int watchesVersion = 0;
+
 	public Map<String, List<MonitoringElement>> getSubappElements() {
 		return subappElements;
 	}
@@ -132,6 +138,22 @@ public MonitoringBaseElement getMonitoringElementByPortString(final String portS
 		return monitoredElementsPerPortStrings.get(portString);
 	}
 
+	Map<String, MonitoringBaseElement> getMonitoredElementsPerPortStrings() {
+		return monitoredElementsPerPortStrings;
+	}
+
+	/**
+	 * Version of the watched port strings, allows device handlers to detect when
+	 * their lookup structures need to be rebuilt.
+	 */
+	int getWatchesVersion() {
+		return watchesVersion;
+	}
+
+	private void watchesChanged() {
+		watchesVersion++;
+	}
+
 	public void sendRemoveWatch(final MonitoringBaseElement element) {
 		final IDeviceManagementInteractor devMgmInteractor = getDevMgmInteractor(element.getPort().getDevice());
 		if (null != devMgmInteractor && devMgmInteractor.isConnected()) {
@@ -173,6 +195,7 @@ public void removeMonitoringElement(final MonitoringBaseElement element) {
 		}
 		monitoredElements.remove(port.getInterfaceElement());
 		monitoredElementsPerPortStrings.remove(port.getPortString());
+		watchesChanged();
 		handleSubappElements(element, port);
 	}
 
@@ -211,6 +234,7 @@ public void addMonitoringElement(final MonitoringBaseElement element) {
 			addToSubappGroup(element, port);
 			handleConnectedSubappPorts(element);
 			monitoredElementsPerPortStrings.put(port.getPortString(), element);
+			watchesChanged();
 		}
 
 		if (element instanceof MonitoringElement) {
@@ -277,7 +301,7 @@ private void handleConnectedSubappPorts(final MonitoringBaseElement element) {
 	}
 
 	public MonitoringBaseElement getMonitoredElement(final IInterfaceElement port) {
-		return monitoredElements.get(port);
+		return (null != port) ? monitoredElements.get(port) : null;
 	}
 
 	public Entry<String, List<MonitoringElement>> getSubappElements(final MonitoringBaseElement m) {
@@ -305,6 +329,7 @@ public void updatePortStringMapping() {
 					monitoredElementsPerPortStrings.remove(entry.getKey());
 					monitoredElementsPerPortStrings.put(value.getPort().getPortString(), value);
 				});
+		watchesChanged();
 	}
 
 }
@@ -14,6 +14,7 @@
 package org.eclipse.fordiac.ide.ui.preferences;
 
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.ui.IWorkbench;
@@ -41,6 +42,9 @@ public void createFieldEditors() {
 		allocationSize.setValidRange(PreferenceConstants.P_ALLOCATION_SIZE_MIN_VALUE,
 				PreferenceConstants.P_ALLOCATION_SIZE_MAX_VALUE);
 		addField(allocationSize);
+
+		addField(new BooleanFieldEditor(PreferenceConstants.P_PARALLEL_TYPE_LOADING,
+				"Load all types in parallel after a type library reload", getFieldEditorParent()));
 	}
 
 	@Override
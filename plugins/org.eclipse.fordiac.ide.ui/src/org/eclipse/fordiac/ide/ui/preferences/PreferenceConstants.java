@@ -77,6 +77,9 @@ public static boolean isDataConnectorProperty(final String property) {
 	public static final int P_ALLOCATION_SIZE_MIN_VALUE = 50;
 	public static final int P_ALLOCATION_SIZE_MAX_VALUE = 1000;
 
+	public static final String P_PARALLEL_TYPE_LOADING = "parallelTypeLoading"; //$NON-NLS-1$
+	public static final boolean P_PARALLEL_TYPE_LOADING_DEFAULT_VALUE = false;
+
 	public static final String P_SHOW_ERRORS_AT_MOUSE_CURSOR = "ShowErrorsAtMouseCursor"; //$NON-NLS-1$
 	public static final boolean P_SHOW_ERRORS_AT_MOUSE_CURSOR_DEFAULT_VALUE = true;
 
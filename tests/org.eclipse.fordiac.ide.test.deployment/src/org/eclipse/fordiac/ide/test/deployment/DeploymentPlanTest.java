@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.test.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.deployment.DeploymentPlan;
+import org.eclipse.fordiac.ide.deployment.data.ConnectionDeploymentData;
+import org.eclipse.fordiac.ide.deployment.data.DeviceDeploymentData;
+import org.eclipse.fordiac.ide.deployment.data.ResourceDeploymentData;
+import org.eclipse.fordiac.ide.deployment.exceptions.DeploymentException;
+import org.eclipse.fordiac.ide.deployment.interactors.IDeviceManagementInteractor;
+import org.eclipse.fordiac.ide.model.datatype.helper.IecTypes.ElementaryTypes;
+import org.eclipse.fordiac.ide.model.libraryElement.Device;
+import org.eclipse.fordiac.ide.model.libraryElement.FB;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.Resource;
+import org.eclipse.fordiac.ide.model.libraryElement.Value;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Deployment of a device with a device parameter and two resources, each with
+ * a resource parameter, an FB, an FB parameter and a connection.
+ */
+@SuppressWarnings("nls")
+class DeploymentPlanTest {
+
+	private static final String BEGIN_BATCH = "beginBatch";
+	private static final String END_BATCH = "endBatch";
+
+	private final List<String> calls = new ArrayList<>();
+	private DeviceDeploymentData devData;
+
+	@BeforeEach
+	void createDevice() throws DeploymentException {
+		final Device device = LibraryElementFactory.eINSTANCE.createDevice();
+		device.setName("Device");
+		device.getVarDeclarations().add(createVar("DEV_PARAM"));
+		devData = new DeviceDeploymentData(device);
+		devData.setSeltectedDevParams(device.getVarDeclarations());
+		devData.addResourceData(createResource(device, "Res1"));
+		devData.addResourceData(createResource(device, "Res2"));
+	}
+
+	@Test
+	void commandsAreGroupedIntoPhases() throws DeploymentException, InterruptedException {
+		final DeploymentPlan plan = DeploymentPlan.create(devData, devData.getResData());
+		assertEquals(14, plan.getCommandCount());
+		plan.execute(createInteractor(null), new NullProgressMonitor());
+
+		assertEquals(List.of( //
+				BEGIN_BATCH, "createResource Res1", "createResource Res2", END_BATCH, //
+				BEGIN_BATCH, "writeResourceParameter Res1", "writeResourceParameter Res2", END_BATCH, //
+				BEGIN_BATCH, "createFBInstance Res1", "createFBInstance Res2", END_BATCH, //
+				BEGIN_BATCH, "writeFBParameter Res1", "writeFBParameter Res2", END_BATCH, //
+				BEGIN_BATCH, "createConnection Res1", "createConnection Res2", END_BATCH, //
+				BEGIN_BATCH, "startResource Res1", "startResource Res2", END_BATCH, //
+				BEGIN_BATCH, "writeDeviceParameter Device", "startDevice Device", END_BATCH), calls);
+	}
+
+	@Test
+	void emptyPhasesAreSkipped() throws DeploymentException, InterruptedException {
+		devData.setSeltectedDevParams(List.of());
+		final DeploymentPlan plan = DeploymentPlan.create(devData, List.of());
+		assertEquals(0, plan.getCommandCount());
+		plan.execute(createInteractor(null), new NullProgressMonitor());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	void failedCommandEndsBatchAndPlan() throws DeploymentException {
+		final DeploymentPlan plan = DeploymentPlan.create(devData, devData.getResData());
+		final IDeviceManagementInteractor interactor = createInteractor("createFBInstance");
+		assertThrows(DeploymentException.class, () -> plan.execute(interactor, new NullProgressMonitor()));
+
+		assertEquals(END_BATCH, calls.get(calls.size() - 1));
+		assertTrue(calls.contains("createFBInstance Res1"));
+		assertFalse(calls.stream().anyMatch(call -> call.startsWith("createConnection")));
+	}
+
+	@Test
+	void canceledPlanExecutesNoCommands() throws DeploymentException {
+		final DeploymentPlan plan = DeploymentPlan.create(devData, devData.getResData());
+		final NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		final IDeviceManagementInteractor interactor = createInteractor(null);
+		assertThrows(InterruptedException.class, () -> plan.execute(interactor, monitor));
+		assertEquals(List.of(BEGIN_BATCH, END_BATCH), calls);
+	}
+
+	@Test
+	void phaseTimingsAreReported() throws DeploymentException, InterruptedException {
+		final List<String> subTasks = new ArrayList<>();
+		final NullProgressMonitor monitor = new NullProgressMonitor() {
+			@Override
+			public void subTask(final String name) {
+				subTasks.add(name);
+			}
+		};
+		DeploymentPlan.create(devData, devData.getResData()).execute(createInteractor(null), monitor);
+
+		assertEquals(DeploymentPlan.Phase.values().length, subTasks.size());
+		for (int i = 0; i < subTasks.size(); i++) {
+			assertTrue(subTasks.get(i).startsWith("Device: " + DeploymentPlan.Phase.values()[i]));
+		}
+	}
+
+	private IDeviceManagementInteractor createInteractor(final String failingMethod) {
+		return (IDeviceManagementInteractor) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IDeviceManagementInteractor.class }, (proxy, method, args) -> {
+					final String name = method.getName();
+					if (BEGIN_BATCH.equals(name) || END_BATCH.equals(name)) {
+						calls.add(name);
+					} else {
+						calls.add(name + " " + getTargetName(args));
+					}
+					if (name.equals(failingMethod)) {
+						throw new DeploymentException(name + " failed");
+					}
+					return null;
+				});
+	}
+
+	private static String getTargetName(final Object[] args) {
+		for (final Object arg : args) {
+			if (arg instanceof final Resource res) {
+				return res.getName();
+			}
+			if (arg instanceof final Device device) {
+				return device.getName();
+			}
+		}
+		return "";
+	}
+
+	private static ResourceDeploymentData createResource(final Device device, final String name)
+			throws DeploymentException {
+		final Resource res = LibraryElementFactory.eINSTANCE.createResource();
+		res.setName(name);
+		res.setFBNetwork(LibraryElementFactory.eINSTANCE.createFBNetwork());
+		res.getVarDeclarations().add(createVar("RES_PARAM"));
+		device.getResource().add(res);
+
+		final FB fb = LibraryElementFactory.eINSTANCE.createFB();
+		fb.setName("FB");
+		res.getFBNetwork().getNetworkElements().add(fb);
+
+		final ResourceDeploymentData resData = new ResourceDeploymentData(res);
+		resData.addParameter(new ResourceDeploymentData.ParameterData("2", "", createVar("FB_PARAM")));
+		resData.addConnections(new ConnectionDeploymentData("", null, "", null));
+		return resData;
+	}
+
+	private static VarDeclaration createVar(final String name) {
+		final VarDeclaration varDecl = LibraryElementFactory.eINSTANCE.createVarDeclaration();
+		varDecl.setName(name);
+		varDecl.setType(ElementaryTypes.INT);
+		varDecl.setIsInput(true);
+		final Value value = LibraryElementFactory.eINSTANCE.createValue();
+		value.setValue("1");
+		varDecl.setValue(value);
+		return varDecl;
+	}
+}
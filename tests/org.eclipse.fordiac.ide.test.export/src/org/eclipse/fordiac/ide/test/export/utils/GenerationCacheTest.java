@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.test.export.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.fordiac.ide.export.utils.GenerationCache;
+import org.eclipse.fordiac.ide.export.utils.GenerationCache.Entry;
+import org.eclipse.fordiac.ide.export.utils.GenerationCache.OutputFile;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeEntry;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibrary;
+import org.eclipse.fordiac.ide.model.typelibrary.TypeLibraryManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class GenerationCacheTest {
+
+	private static final String PROJECT_NAME = "GenerationCacheTest";
+	private static final String EXPORTER_VERSION = "1";
+
+	// every test uses a new project, as the caches are kept per project and path
+	private static int projectCount;
+
+	private IProject project;
+	private IFile innerFile;
+	private IFile outerFile;
+	private Path destination;
+	private Path outputPath;
+
+	@BeforeEach
+	void createProject() throws CoreException, IOException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME + projectCount++);
+		project.create(null);
+		project.open(null);
+		innerFile = createFile("Inner.dtp", structType("Inner", "INT"));
+		outerFile = createFile("Outer.dtp", structType("Outer", "Inner"));
+		final TypeLibrary typeLibrary = TypeLibraryManager.INSTANCE.getTypeLibrary(project);
+		final TypeEntry innerEntry = typeLibrary.createTypeEntry(innerFile);
+		final TypeEntry outerEntry = typeLibrary.createTypeEntry(outerFile);
+		assertTrue(outerEntry.getDependencies().contains(innerEntry));
+
+		destination = Files.createTempDirectory(PROJECT_NAME);
+		outputPath = destination.resolve("Outer_dtp.h");
+		Files.writeString(outputPath, "generated");
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException, IOException {
+		project.delete(true, true, null);
+		try (Stream<Path> paths = Files.walk(destination)) {
+			for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test
+	void unchangedTypeIsCached() {
+		final GenerationCache cache = GenerationCache.get(project);
+		assertNotNull(cache);
+		final String key = store(cache);
+
+		final Entry entry = cache.lookup(key, GenerationCache.getFingerprint(outerFile, EXPORTER_VERSION));
+		assertNotNull(entry);
+		assertEquals(List.of(OutputFile.of(outputPath)), entry.outputs());
+		assertEquals(List.of("info"), entry.infos());
+	}
+
+	@Test
+	void changedExportSettingsAreNotCached() {
+		final GenerationCache cache = GenerationCache.get(project);
+		final String key = store(cache);
+
+		final String fingerprint = GenerationCache.getFingerprint(outerFile, "2");
+		assertNotEquals(GenerationCache.getFingerprint(outerFile, EXPORTER_VERSION), fingerprint);
+		assertNull(cache.lookup(key, fingerprint));
+	}
+
+	@Test
+	void changedDependencyIsNotCached() throws CoreException {
+		final GenerationCache cache = GenerationCache.get(project);
+		final String key = store(cache);
+		final String fingerprint = GenerationCache.getFingerprint(outerFile, EXPORTER_VERSION);
+
+		innerFile.setContents(toStream(structType("Inner", "DINT")), IResource.FORCE, null);
+
+		final String changedFingerprint = GenerationCache.getFingerprint(outerFile, EXPORTER_VERSION);
+		assertNotEquals(fingerprint, changedFingerprint);
+		assertNull(cache.lookup(key, changedFingerprint));
+	}
+
+	@Test
+	void changedOutputFileIsNotCached() throws IOException {
+		final GenerationCache cache = GenerationCache.get(project);
+		final String key = store(cache);
+		final String fingerprint = GenerationCache.getFingerprint(outerFile, EXPORTER_VERSION);
+
+		Files.writeString(outputPath, "edited by hand");
+		assertNull(cache.lookup(key, fingerprint));
+	}
+
+	@Test
+	void touchedOutputFileIsNotCached() throws IOException {
+		final GenerationCache cache = GenerationCache.get(project);
+		final String key = store(cache);
+		final String fingerprint = GenerationCache.getFingerprint(outerFile, EXPORTER_VERSION);
+
+		Files.setLastModifiedTime(outputPath,
+				FileTime.fromMillis(Files.getLastModifiedTime(outputPath).toMillis() + 10_000));
+		assertNull(cache.lookup(key, fingerprint));
+	}
+
+	@Test
+	void deletedOutputFileIsNotCached() throws IOException {
+		final GenerationCache cache = GenerationCache.get(project);
+		final String key = store(cache);
+		final String fingerprint = GenerationCache.getFingerprint(outerFile, EXPORTER_VERSION);
+
+		Files.delete(outputPath);
+		assertNull(cache.lookup(key, fingerprint));
+	}
+
+	private String store(final GenerationCache cache) {
+		final String key = GenerationCache.getKey(outerFile, destination.toString());
+		final String fingerprint = GenerationCache.getFingerprint(outerFile, EXPORTER_VERSION);
+		assertNotNull(fingerprint);
+		cache.store(key, new Entry(fingerprint, List.of(OutputFile.of(outputPath)), List.of(), List.of("info")));
+		return key;
+	}
+
+	private IFile createFile(final String name, final String content) throws CoreException {
+		final IFile file = project.getFile(name);
+		file.create(toStream(content), true, null);
+		return file;
+	}
+
+	private static ByteArrayInputStream toStream(final String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String structType(final String name, final String memberType) {
+		return """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<DataType Name="%s">
+					<StructuredType>
+						<VarDeclaration Name="MEMBER" Type="%s"/>
+					</StructuredType>
+				</DataType>
+				""".formatted(name, memberType);
+	}
+}
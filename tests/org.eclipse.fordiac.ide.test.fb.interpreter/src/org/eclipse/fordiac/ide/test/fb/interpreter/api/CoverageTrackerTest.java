@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.test.fb.interpreter.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.BasicFBTypeRuntime;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.OperationalSemanticsFactory;
+import org.eclipse.fordiac.ide.fb.interpreter.api.CoverageTracker;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.ECC;
+import org.eclipse.fordiac.ide.model.libraryElement.ECState;
+import org.eclipse.fordiac.ide.model.libraryElement.ECTransition;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Coverage of the ECC START -> A, A -> B, A -> START with B as a dead end: 3
+ * states and 4 paths (3 transitions plus the dead end B).
+ */
+@SuppressWarnings("nls")
+class CoverageTrackerTest {
+
+	private static final float DELTA = 0.0001f;
+
+	private BasicFBType fbType;
+
+	@BeforeEach
+	void createType() {
+		fbType = LibraryElementFactory.eINSTANCE.createBasicFBType();
+		fbType.setName("TEST_FB");
+		final ECC ecc = LibraryElementFactory.eINSTANCE.createECC();
+		fbType.setECC(ecc);
+		final ECState start = createState(ecc, "START");
+		final ECState a = createState(ecc, "A");
+		final ECState b = createState(ecc, "B");
+		createTransition(ecc, start, a);
+		createTransition(ecc, a, b);
+		createTransition(ecc, a, start);
+	}
+
+	@Test
+	void attachCreatesOneTrackerPerType() {
+		assertNull(CoverageTracker.getExisting(fbType));
+		final CoverageTracker tracker = CoverageTracker.attach(fbType);
+		assertSame(tracker, CoverageTracker.getExisting(fbType));
+		assertSame(tracker, CoverageTracker.attach(fbType));
+		assertEquals(0.0f, tracker.getStateCoverage(), DELTA);
+		assertEquals(0.0f, tracker.getPathCoverage(), DELTA);
+	}
+
+	@Test
+	void visitUpdatesCoverage() {
+		final CoverageTracker tracker = CoverageTracker.attach(fbType);
+		tracker.visit(getTransition(fbType, 0));
+		assertEquals(1 / 3.0f, tracker.getStateCoverage(), DELTA);
+		assertEquals(1 / 4.0f, tracker.getPathCoverage(), DELTA);
+
+		// visiting the same transition again does not change the coverage
+		tracker.visit(getTransition(fbType, 0));
+		assertEquals(1 / 3.0f, tracker.getStateCoverage(), DELTA);
+		assertEquals(1 / 4.0f, tracker.getPathCoverage(), DELTA);
+
+		tracker.visit(getTransition(fbType, 1));
+		tracker.visit(getTransition(fbType, 2));
+		assertEquals(1.0f, tracker.getStateCoverage(), DELTA);
+		// the dead end B is never visited as a path
+		assertEquals(3 / 4.0f, tracker.getPathCoverage(), DELTA);
+	}
+
+	@Test
+	void attachResetsExistingTracker() {
+		final CoverageTracker tracker = CoverageTracker.attach(fbType);
+		tracker.visit(getTransition(fbType, 0));
+		CoverageTracker.attach(fbType);
+		assertEquals(0.0f, tracker.getStateCoverage(), DELTA);
+		assertEquals(0.0f, tracker.getPathCoverage(), DELTA);
+	}
+
+	@Test
+	void mergeAddsVisitedStatesAndPaths() {
+		final BasicFBType otherType = EcoreUtil.copy(fbType);
+		final CoverageTracker tracker = CoverageTracker.attach(fbType);
+		final CoverageTracker other = CoverageTracker.attach(otherType);
+		tracker.visit(getTransition(fbType, 0));
+		other.visit(getTransition(otherType, 1));
+		tracker.merge(other);
+		assertEquals(2 / 3.0f, tracker.getStateCoverage(), DELTA);
+		assertEquals(2 / 4.0f, tracker.getPathCoverage(), DELTA);
+		assertEquals(1 / 3.0f, other.getStateCoverage(), DELTA);
+	}
+
+	@Test
+	void transferSharesTrackerWithRuntimeCopies() {
+		final BasicFBTypeRuntime runtime = OperationalSemanticsFactory.eINSTANCE.createBasicFBTypeRuntime();
+		runtime.setBasicfbtype(fbType);
+		runtime.setActiveState("START");
+		final CoverageTracker tracker = CoverageTracker.attach(fbType);
+
+		final BasicFBTypeRuntime copy = EcoreUtil.copy(runtime);
+		assertNotSame(runtime.getBasicfbtype(), copy.getBasicfbtype());
+		assertNull(CoverageTracker.getExisting(copy.getBasicfbtype()));
+		CoverageTracker.transfer(runtime, copy);
+		assertSame(tracker, CoverageTracker.getExisting(copy.getBasicfbtype()));
+
+		// transitions of the copied type are recorded by name in the shared tracker
+		CoverageTracker.getExisting(copy.getBasicfbtype()).visit(getTransition(copy.getBasicfbtype(), 0));
+		final BasicFBTypeRuntime copyOfCopy = EcoreUtil.copy(copy);
+		CoverageTracker.transfer(copy, copyOfCopy);
+		CoverageTracker.getExisting(copyOfCopy.getBasicfbtype())
+				.visit(getTransition(copyOfCopy.getBasicfbtype(), 1));
+		assertEquals(2 / 3.0f, tracker.getStateCoverage(), DELTA);
+		assertEquals(2 / 4.0f, tracker.getPathCoverage(), DELTA);
+	}
+
+	@Test
+	void transferWithoutTrackerDoesNothing() {
+		final BasicFBTypeRuntime runtime = OperationalSemanticsFactory.eINSTANCE.createBasicFBTypeRuntime();
+		runtime.setBasicfbtype(fbType);
+		final BasicFBTypeRuntime copy = EcoreUtil.copy(runtime);
+		CoverageTracker.transfer(runtime, copy);
+		assertNull(CoverageTracker.getExisting(copy.getBasicfbtype()));
+	}
+
+	private static ECState createState(final ECC ecc, final String name) {
+		final ECState state = LibraryElementFactory.eINSTANCE.createECState();
+		state.setName(name);
+		ecc.getECState().add(state);
+		return state;
+	}
+
+	private static void createTransition(final ECC ecc, final ECState source, final ECState destination) {
+		final ECTransition transition = LibraryElementFactory.eINSTANCE.createECTransition();
+		ecc.getECTransition().add(transition);
+		transition.setSource(source);
+		transition.setDestination(destination);
+	}
+
+	private static ECTransition getTransition(final BasicFBType type, final int index) {
+		return type.getECC().getECTransition().get(index);
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.test.fb.interpreter.basicfb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.fb.interpreter.CachedFBEvaluator;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.BasicFBTypeRuntime;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventOccurrence;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBTransaction;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.Transaction;
+import org.eclipse.fordiac.ide.fb.interpreter.api.EventManagerFactory;
+import org.eclipse.fordiac.ide.fb.interpreter.api.RuntimeFactory;
+import org.eclipse.fordiac.ide.fb.interpreter.api.TransactionFactory;
+import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
+import org.eclipse.fordiac.ide.model.libraryElement.BasicFBType;
+import org.eclipse.fordiac.ide.model.libraryElement.Event;
+import org.eclipse.fordiac.ide.model.libraryElement.VarDeclaration;
+import org.eclipse.fordiac.ide.test.fb.interpreter.infra.AbstractInterpreterTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Counts up E_CTU with CU, CU, R (with PV sampled as 1) and CU.
+ */
+@SuppressWarnings("nls")
+class CachedFBEvaluatorTest {
+
+	private static final List<String> EVENTS = List.of("CU", "CU", "R", "CU");
+	private static final int SAMPLED_TRANSACTION = 2;
+
+	@Test
+	void evaluatorIsHandedOnToTheNextTransactions() {
+		final EventManager eventManager = createEventManager();
+		EventManagerUtils.process(eventManager);
+
+		// the evaluator moves with the runtime, so only the last runtime has one
+		final List<Transaction> transactions = eventManager.getTransactions();
+		for (int i = 0; i < transactions.size(); i++) {
+			final BasicFBType type = getResultType(transactions.get(i));
+			if (i < transactions.size() - 1) {
+				assertNull(CachedFBEvaluator.getExisting(type));
+			} else {
+				assertNotNull(CachedFBEvaluator.getExisting(type));
+			}
+		}
+	}
+
+	@Test
+	void resultsMatchRuntimesWithoutEvaluator() {
+		final EventManager eventManager = createEventManager();
+		EventManagerUtils.process(eventManager);
+
+		final List<Transaction> expectedTransactions = processWithInputCopies().getTransactions();
+		final List<Transaction> transactions = eventManager.getTransactions();
+		assertEquals(expectedTransactions.size(), transactions.size());
+		for (int i = 0; i < transactions.size(); i++) {
+			assertEquals(getOutputEvents(expectedTransactions.get(i)), getOutputEvents(transactions.get(i)));
+			final BasicFBTypeRuntime expected = (BasicFBTypeRuntime) expectedTransactions.get(i)
+					.getInputEventOccurrence().getResultFBRuntime();
+			final BasicFBTypeRuntime actual = (BasicFBTypeRuntime) transactions.get(i).getInputEventOccurrence()
+					.getResultFBRuntime();
+			assertEquals(expected.getActiveState(), actual.getActiveState());
+			assertEquals(getValue(expected, "CV"), getValue(actual, "CV"));
+			assertEquals(getValue(expected, "Q"), getValue(actual, "Q"));
+		}
+		assertEquals("1", getValue(getResultRuntime(transactions.get(transactions.size() - 1)), "CV"));
+		assertEquals("TRUE", getValue(getResultRuntime(transactions.get(transactions.size() - 1)), "Q"));
+	}
+
+	/**
+	 * Process the transactions of a new event manager on plain copies of the
+	 * previous results, so that each transaction prepares its own evaluator from
+	 * the variable values of the type.
+	 */
+	static EventManager processWithInputCopies() {
+		final EventManager eventManager = createEventManager();
+		final List<Transaction> transactions = eventManager.getTransactions();
+		for (int i = 0; i < transactions.size(); i++) {
+			final FBTransaction transaction = (FBTransaction) transactions.get(i);
+			transaction.process();
+			if (i + 1 < transactions.size()) {
+				transactions.get(i + 1).getInputEventOccurrence()
+						.setFbRuntime(EcoreUtil.copy(EventManagerUtils.getLatestFbRuntime(transaction)));
+			}
+		}
+		return eventManager;
+	}
+
+	static EventManager createEventManager() {
+		final BasicFBType fb = EcoreUtil.copy((BasicFBType) AbstractInterpreterTest.loadFBType("E_CTU"));
+		final VarDeclaration pv = fb.getInterfaceList().getInputVars().stream()
+				.filter(varDecl -> "PV".equals(varDecl.getName())).findAny().orElseThrow();
+		pv.getValue().setValue("3");
+		final List<Event> events = new ArrayList<>();
+		for (final String name : EVENTS) {
+			events.add((Event) fb.getInterfaceList().getInterfaceElement(name));
+		}
+		final List<FBTransaction> transactions = TransactionFactory.createFrom(events, RuntimeFactory.createFrom(fb),
+				false);
+		final VarDeclaration sampledPv = EcoreUtil.copy(pv);
+		sampledPv.getValue().setValue("1");
+		transactions.get(SAMPLED_TRANSACTION).getInputVariables().add(sampledPv);
+		return EventManagerFactory.createFrom(transactions);
+	}
+
+	private static List<String> getOutputEvents(final Transaction transaction) {
+		return ((FBTransaction) transaction).getOutputEventOccurrences().stream().map(EventOccurrence::getEvent)
+				.map(Event::getName).toList();
+	}
+
+	private static BasicFBTypeRuntime getResultRuntime(final Transaction transaction) {
+		return (BasicFBTypeRuntime) transaction.getInputEventOccurrence().getResultFBRuntime();
+	}
+
+	private static BasicFBType getResultType(final Transaction transaction) {
+		return getResultRuntime(transaction).getBasicfbtype();
+	}
+
+	private static String getValue(final BasicFBTypeRuntime runtime, final String name) {
+		final VarDeclaration varDecl = (VarDeclaration) runtime.getBasicfbtype().getInterfaceList()
+				.getInterfaceElement(name);
+		return varDecl.getValue().getValue();
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.test.fb.interpreter.basicfb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventManager;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventOccurrence;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.FBRuntimeAbstract;
+import org.eclipse.fordiac.ide.fb.interpreter.OpSem.Transaction;
+import org.eclipse.fordiac.ide.fb.interpreter.mm.EventManagerUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Transactions after the first one are processed on a copy of the previous
+ * result, their input runtimes are only created for the trace.
+ */
+class RuntimeSnapshotTest {
+
+	@Test
+	void processCopiesTheRuntimeOncePerTransaction() {
+		final EventManager eventManager = CachedFBEvaluatorTest.createEventManager();
+		EventManagerUtils.process(eventManager);
+
+		final List<Transaction> transactions = eventManager.getTransactions();
+		assertNotNull(transactions.get(0).getInputEventOccurrence().getFbRuntime());
+		for (int i = 1; i < transactions.size(); i++) {
+			assertNull(transactions.get(i).getInputEventOccurrence().getFbRuntime());
+			assertNotNull(transactions.get(i).getInputEventOccurrence().getResultFBRuntime());
+		}
+	}
+
+	@Test
+	void restoredTraceMatchesTraceWithInputCopies() {
+		final EventManager eventManager = CachedFBEvaluatorTest.createEventManager();
+		EventManagerUtils.process(eventManager);
+		EventManagerUtils.restoreInputRuntimes(eventManager);
+
+		final List<Transaction> expected = CachedFBEvaluatorTest.processWithInputCopies().getTransactions();
+		final List<Transaction> transactions = eventManager.getTransactions();
+		assertEquals(expected.size(), transactions.size());
+		for (int i = 0; i < transactions.size(); i++) {
+			final EventOccurrence expectedEo = expected.get(i).getInputEventOccurrence();
+			final EventOccurrence eo = transactions.get(i).getInputEventOccurrence();
+			// the input runtimes include the sampled input variables
+			assertTrue(EcoreUtil.equals(expectedEo.getFbRuntime(), eo.getFbRuntime()));
+			assertTrue(EcoreUtil.equals(expectedEo.getResultFBRuntime(), eo.getResultFBRuntime()));
+		}
+	}
+
+	@Test
+	void restoreKeepsExistingInputRuntimes() {
+		final EventManager eventManager = CachedFBEvaluatorTest.processWithInputCopies();
+		final List<Transaction> transactions = eventManager.getTransactions();
+		final List<FBRuntimeAbstract> inputRuntimes = transactions.stream()
+				.map(transaction -> transaction.getInputEventOccurrence().getFbRuntime()).toList();
+		EventManagerUtils.restoreInputRuntimes(eventManager);
+		for (int i = 0; i < transactions.size(); i++) {
+			assertSame(inputRuntimes.get(i), transactions.get(i).getInputEventOccurrence().getFbRuntime());
+		}
+	}
+}
@@ -10,9 +10,12 @@
  * Contributors:
  *   Paul Pavlicek
  *     - initial API and implementation and/or initial documentation
+ *   agent - reproducible runs with the same seed
  *******************************************************************************/
 package org.eclipse.fordiac.ide.test.fb.interpreter.infra;
 
+import static org.junit.Assert.assertEquals;
+
 import java.util.List;
 
 import org.eclipse.fordiac.ide.fb.interpreter.OpSem.EventOccurrence;
@@ -24,6 +27,7 @@
 public class GeneticInputGeneratorWithCrossoverTest {
 	private static final int PARENT_COUNT = 4;
 	private static final int INITIAL_LENGTH = 10;
+	private static final long SEED = 42;
 
 	@SuppressWarnings("static-method")
 	@Test
@@ -45,4 +49,19 @@ public void test() {
 				.findAny().orElse(null) != null);
 	}
 
+	@SuppressWarnings("static-method")
+	@Test
+	public void sameSeedGivesSameBest() {
+		final FBType type = AbstractInterpreterTest.loadFBType("geneticAlgorithmTest"); //$NON-NLS-1$
+		assert (type != null);
+		assertEquals(runWithSeed(type), runWithSeed(type));
+	}
+
+	private static List<String> runWithSeed(final FBType type) {
+		final GeneticInputGeneratorWithCrossover generator = new GeneticInputGeneratorWithCrossover(type,
+				INITIAL_LENGTH, PARENT_COUNT);
+		generator.setSeed(SEED);
+		return generator.runAlgorithm(true, 4).stream().map(eo -> eo.getEvent().getName()).toList();
+	}
+
 }
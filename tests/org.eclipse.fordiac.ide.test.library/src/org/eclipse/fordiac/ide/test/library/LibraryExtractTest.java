@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.test.library;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.fordiac.ide.library.LibraryManager;
+import org.eclipse.fordiac.ide.systemmanagement.SystemManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@SuppressWarnings("nls")
+class LibraryExtractTest {
+	private static final String PROJECT = "extractproject";
+	private static final String V1_0_0 = "1.0.0";
+	private static final Path LIBRARY_PATH = ResourcesPlugin.getWorkspace().getRoot().getRawLocation().toPath()
+			.resolve(LibraryManager.EXTRACTED_LIB_DIRECTORY);
+	private IProject project;
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeAll
+	static void setupBeforeClass() throws Exception {
+		final IProject proj = SystemManager.INSTANCE.createNew4diacProject(PROJECT,
+				ResourcesPlugin.getWorkspace().getRoot().getLocation().append(PROJECT), Collections.emptyMap(),
+				new NullProgressMonitor());
+		proj.refreshLocal(IResource.DEPTH_INFINITE, null);
+	}
+
+	@BeforeEach
+	void setupBeforeEach() {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT);
+	}
+
+	@Test
+	void testExtractAndImport() throws IOException {
+		final String folder = "extract01-" + V1_0_0;
+		final Map<String, String> entries = new LinkedHashMap<>();
+		entries.put(folder + "/", null);
+		entries.put(folder + "/" + LibraryManager.MANIFEST, manifest("extract01"));
+		entries.put(folder + "/typelib/", null);
+		entries.put(folder + "/typelib/Block.fbt", block("extract01"));
+
+		final java.net.URI uri = LibraryManager.INSTANCE.extractLibrary(createArchive(folder, entries), project, true,
+				false);
+
+		assertEquals("WORKSPACE_LOC/.lib/" + folder + "/", uri.toString());
+		assertTrue(Files.isRegularFile(LIBRARY_PATH.resolve(folder).resolve("typelib/Block.fbt")));
+		LibraryAssert.assertLibraryLinked(project, "extract01", V1_0_0);
+	}
+
+	@Test
+	void testExtractWithoutDirectoryEntries() throws IOException {
+		final String folder = "extract02-" + V1_0_0;
+		final Map<String, String> entries = new LinkedHashMap<>();
+		entries.put(folder + "/" + LibraryManager.MANIFEST, manifest("extract02"));
+		entries.put(folder + "/typelib/sub/Block.fbt", block("extract02"));
+
+		final java.net.URI uri = LibraryManager.INSTANCE.extractLibrary(createArchive(folder, entries), project, true,
+				false);
+
+		assertEquals("WORKSPACE_LOC/.lib/" + folder + "/", uri.toString());
+		assertTrue(Files.isRegularFile(LIBRARY_PATH.resolve(folder).resolve("typelib/sub/Block.fbt")));
+		LibraryAssert.assertLibraryLinked(project, "extract02", V1_0_0);
+	}
+
+	@Test
+	void testExtractOutsideLibraryFolder() throws IOException {
+		final String folder = "extract03-" + V1_0_0;
+		final Map<String, String> entries = new LinkedHashMap<>();
+		entries.put(folder + "/", null);
+		entries.put(folder + "/" + LibraryManager.MANIFEST, manifest("extract03"));
+		entries.put(folder + "/../../extract03-slip.txt", "outside");
+		final Path archive = createArchive(folder, entries);
+
+		assertThrows(IOException.class, () -> LibraryManager.INSTANCE.extractLibrary(archive, null, false, false));
+		assertFalse(Files.exists(LIBRARY_PATH.getParent().resolve("extract03-slip.txt")));
+		// nothing is extracted before all entries are checked
+		assertFalse(Files.exists(LIBRARY_PATH.resolve(folder)));
+	}
+
+	private Path createArchive(final String name, final Map<String, String> entries) throws IOException {
+		final Path archive = tempDir.resolve(name + LibraryManager.ZIP_SUFFIX);
+		try (OutputStream out = Files.newOutputStream(archive); ZipOutputStream zip = new ZipOutputStream(out)) {
+			for (final Map.Entry<String, String> entry : entries.entrySet()) {
+				zip.putNextEntry(new ZipEntry(entry.getKey()));
+				if (entry.getValue() != null) {
+					zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+				}
+				zip.closeEntry();
+			}
+		}
+		return archive;
+	}
+
+	private static String manifest(final String symbolicName) {
+		return """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<Manifest Scope="Library">
+				    <Product Name="%1$s" SymbolicName="%1$s" Comment="">
+				        <VersionInfo Version="%2$s" Author="Eclipse 4diac" Date="2024-08-01"/>
+				    </Product>
+				</Manifest>
+				""".formatted(symbolicName, V1_0_0);
+	}
+
+	private static String block(final String packageName) {
+		return """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<FBType Name="Block" Comment="">
+					<Identification Standard="61499-1">
+					</Identification>
+					<VersionInfo Version="1.0" Author="Eclipse 4diac" Date="2024-08-01">
+					</VersionInfo>
+					<CompilerInfo packageName="%s">
+					</CompilerInfo>
+					<InterfaceList>
+						<EventInputs>
+							<Event Name="REQ" Type="Event" Comment="">
+							</Event>
+						</EventInputs>
+					</InterfaceList>
+					<SimpleFB>
+						<Algorithm Name="REQ" Comment="">
+							<ST><![CDATA[ALGORITHM REQ
+				END_ALGORITHM
+				]]></ST>
+						</Algorithm>
+					</SimpleFB>
+				</FBType>
+				""".formatted(packageName);
+	}
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.test.model.eval.st;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.fordiac.ide.model.eval.EvaluatorException;
+import org.eclipse.fordiac.ide.model.eval.st.STAlgorithmEvaluator;
+import org.eclipse.fordiac.ide.model.eval.variable.Variable;
+import org.eclipse.fordiac.ide.model.libraryElement.LibraryElementFactory;
+import org.eclipse.fordiac.ide.model.libraryElement.STAlgorithm;
+import org.eclipse.fordiac.ide.test.model.eval.AbstractEvaluatorTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@SuppressWarnings("nls")
+class StructuredTextCompilerTest extends AbstractEvaluatorTest {
+
+	private static final String COMPILE_PROPERTY = "org.eclipse.fordiac.ide.model.eval.st.compile";
+
+	@AfterEach
+	void disableCompilation() {
+		System.clearProperty(COMPILE_PROPERTY);
+	}
+
+	@ParameterizedTest(name = "{index}: {0}")
+	@MethodSource("algorithms")
+	void compiledMatchesInterpreted(final String name, final String algorithm)
+			throws EvaluatorException, InterruptedException {
+		final Result interpreted = evaluate(newAlgorithm(algorithm));
+		System.setProperty(COMPILE_PROPERTY, Boolean.TRUE.toString());
+		final Result compiled = evaluate(newAlgorithm(algorithm));
+		assertEquals(interpreted.variables(), compiled.variables());
+		assertEquals(interpreted.trace(), compiled.trace());
+	}
+
+	@Test
+	void repeatedEvaluationGivesSameResult() throws EvaluatorException, InterruptedException {
+		System.setProperty(COMPILE_PROPERTY, Boolean.TRUE.toString());
+		final STAlgorithm algorithm = newAlgorithm("""
+				VAR_TEMP
+					test: INT := INT#17;
+				END_VAR
+				test := test + INT#4;
+				""");
+		final Result first = evaluate(algorithm);
+		final Result second = evaluate(algorithm);
+		assertEquals("21", first.variables().get("test"));
+		assertEquals(first, second);
+	}
+
+	@Test
+	void changedAlgorithmIsCompiledAgain() throws EvaluatorException, InterruptedException {
+		System.setProperty(COMPILE_PROPERTY, Boolean.TRUE.toString());
+		final STAlgorithm algorithm = newAlgorithm("""
+				VAR_TEMP
+					test: INT := INT#17;
+				END_VAR
+				test := test + INT#4;
+				""");
+		assertEquals("21", evaluate(algorithm).variables().get("test"));
+		algorithm.setText("""
+				VAR_TEMP
+					test: INT := INT#17;
+				END_VAR
+				test := test * INT#2;
+				""");
+		assertEquals("34", evaluate(algorithm).variables().get("test"));
+	}
+
+	static Stream<Arguments> algorithms() {
+		return Stream.of(Arguments.of("arithmetic", """
+				VAR_TEMP
+					test: DINT := DINT#17;
+					r: LREAL := LREAL#1.5;
+					b: BOOL;
+				END_VAR
+				test := -test * DINT#3 + DINT#100 / DINT#7 - (test MOD DINT#5);
+				r := r ** LREAL#2.0 + DINT_TO_LREAL(test);
+				b := NOT (test > DINT#0) AND r < LREAL#0.0 OR test = DINT#-44;
+				"""), Arguments.of("if", """
+				VAR_TEMP
+					test: INT := INT#0;
+					i: INT := INT#3;
+				END_VAR
+				IF i = INT#1 THEN
+					test := INT#1;
+				ELSIF i = INT#3 THEN
+					test := INT#3;
+				ELSE
+					test := INT#-1;
+				END_IF;
+				"""), Arguments.of("case", """
+				VAR_TEMP
+					test: INT := INT#0;
+					i: INT;
+				END_VAR
+				FOR i := INT#0 TO INT#5 DO
+					CASE i OF
+						INT#0, INT#1: test := test + INT#1;
+						INT#2, INT#3: test := test + INT#10;
+						ELSE test := test + INT#100;
+					END_CASE;
+				END_FOR;
+				"""), Arguments.of("for with continue and exit", """
+				VAR_TEMP
+					test: INT := INT#0;
+					i: INT;
+				END_VAR
+				FOR i := INT#10 TO INT#0 BY INT#-1 DO
+					IF i MOD INT#2 = INT#0 THEN
+						CONTINUE;
+					END_IF;
+					IF i < INT#4 THEN
+						EXIT;
+					END_IF;
+					test := test + i;
+				END_FOR;
+				"""), Arguments.of("nested loops", """
+				VAR_TEMP
+					test: INT := INT#0;
+					i: INT;
+					j: INT;
+				END_VAR
+				FOR i := INT#0 TO INT#3 DO
+					FOR j := INT#0 TO i DO
+						IF j = INT#2 THEN
+							EXIT;
+						END_IF;
+						test := test + INT#1;
+					END_FOR;
+				END_FOR;
+				"""), Arguments.of("while and repeat", """
+				VAR_TEMP
+					test: INT := INT#0;
+					i: INT := INT#0;
+				END_VAR
+				WHILE i < INT#5 DO
+					i := i + INT#1;
+					IF i = INT#2 THEN
+						CONTINUE;
+					END_IF;
+					test := test + i;
+				END_WHILE;
+				REPEAT
+					test := test - INT#1;
+					i := i - INT#1;
+				UNTIL i <= INT#0
+				END_REPEAT;
+				"""), Arguments.of("return", """
+				VAR_TEMP
+					test: INT := INT#1;
+				END_VAR
+				test := test + INT#1;
+				IF test > INT#1 THEN
+					RETURN;
+				END_IF;
+				test := INT#0;
+				"""), Arguments.of("arrays and strings", """
+				VAR_TEMP
+					arr: ARRAY [0..4] OF INT;
+					i: INT;
+					s: STRING := 'abc';
+					test: INT;
+				END_VAR
+				FOR i := INT#0 TO INT#4 DO
+					arr[i] := i * i;
+				END_FOR;
+				s := CONCAT(s, 'def');
+				test := arr[2] + arr[4] + LEN(s);
+				"""), Arguments.of("literals", """
+				VAR_TEMP
+					t: TIME;
+					d: DATE;
+					tod: TIME_OF_DAY;
+					dt: DATE_AND_TIME;
+					w: WORD;
+					test: BOOL;
+				END_VAR
+				t := T#1s + T#250ms;
+				d := D#2024-02-29;
+				tod := TOD#12:30:00;
+				dt := DT#2024-02-29-12:30:00;
+				w := WORD#16#00FF AND WORD#16#0F0F;
+				test := t > T#1s AND w = WORD#16#000F;
+				"""));
+	}
+
+	private static STAlgorithm newAlgorithm(final String text) {
+		final STAlgorithm algorithm = LibraryElementFactory.eINSTANCE.createSTAlgorithm();
+		algorithm.setName("TEST_ALGORITHM");
+		algorithm.setText(text);
+		return algorithm;
+	}
+
+	private static Result evaluate(final STAlgorithm algorithm) throws EvaluatorException, InterruptedException {
+		final TracingEvaluator evaluator = new TracingEvaluator(algorithm);
+		evaluator.evaluate();
+		final Map<String, String> variables = new TreeMap<>();
+		evaluator.getVariables()
+				.forEach((variableName, variable) -> variables.put(variableName, variable.getValue().toString()));
+		return new Result(variables, evaluator.trace);
+	}
+
+	private record Result(Map<String, String> variables, List<String> trace) {
+	}
+
+	private static class TracingEvaluator extends STAlgorithmEvaluator {
+		private final List<String> trace = new ArrayList<>();
+
+		TracingEvaluator(final STAlgorithm algorithm) {
+			super(algorithm, null, List.<Variable<?>>of(), null);
+		}
+
+		@Override
+		protected <T> T trap(final T context) throws InterruptedException {
+			if (context != null) {
+				trace.add(context.getClass().getSimpleName());
+			}
+			return super.trap(context);
+		}
+	}
+}
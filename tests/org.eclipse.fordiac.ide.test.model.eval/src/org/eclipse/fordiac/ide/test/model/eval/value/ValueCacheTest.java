@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.test.model.eval.value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+import org.eclipse.fordiac.ide.model.eval.value.BoolValue;
+import org.eclipse.fordiac.ide.model.eval.value.ByteValue;
+import org.eclipse.fordiac.ide.model.eval.value.CharValue;
+import org.eclipse.fordiac.ide.model.eval.value.DIntValue;
+import org.eclipse.fordiac.ide.model.eval.value.DWordValue;
+import org.eclipse.fordiac.ide.model.eval.value.IntValue;
+import org.eclipse.fordiac.ide.model.eval.value.LIntValue;
+import org.eclipse.fordiac.ide.model.eval.value.LWordValue;
+import org.eclipse.fordiac.ide.model.eval.value.SIntValue;
+import org.eclipse.fordiac.ide.model.eval.value.UDIntValue;
+import org.eclipse.fordiac.ide.model.eval.value.UIntValue;
+import org.eclipse.fordiac.ide.model.eval.value.ULIntValue;
+import org.eclipse.fordiac.ide.model.eval.value.USIntValue;
+import org.eclipse.fordiac.ide.model.eval.value.Value;
+import org.eclipse.fordiac.ide.model.eval.value.WCharValue;
+import org.eclipse.fordiac.ide.model.eval.value.WordValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@SuppressWarnings("nls")
+class ValueCacheTest {
+
+	@ParameterizedTest(name = "{index}: {0}")
+	@MethodSource("cachedRanges")
+	void cachedValuesAreShared(final String name, final LongFunction<Value> factory, final long low, final long high,
+			final long[] uncached) {
+		for (long value = low; value <= high; value++) {
+			assertSame(factory.apply(value), factory.apply(value));
+		}
+		for (final long value : uncached) {
+			final Value first = factory.apply(value);
+			final Value second = factory.apply(value);
+			assertNotSame(first, second);
+			assertEquals(first, second);
+		}
+	}
+
+	@Test
+	void boolValuesAreShared() {
+		assertSame(BoolValue.TRUE, BoolValue.toBoolValue(true));
+		assertSame(BoolValue.FALSE, BoolValue.toBoolValue(false));
+		assertSame(BoolValue.TRUE, BoolValue.toBoolValue(Boolean.TRUE));
+	}
+
+	@Test
+	void cachedValuesKeepTheirValue() {
+		assertEquals(-128, IntValue.toIntValue((short) -128).intValue());
+		assertEquals(127, DIntValue.toDIntValue(127).intValue());
+		assertEquals(255, UDIntValue.toUDIntValue(255).longValue());
+		assertEquals(-1, SIntValue.toSIntValue((byte) -1).intValue());
+		assertEquals('a', WCharValue.toWCharValue('a').charValue());
+		assertEquals(200, ULIntValue.toULIntValue(200).longValue());
+	}
+
+	static Stream<Arguments> cachedRanges() {
+		return Stream.of(
+				Arguments.of("SINT", (LongFunction<Value>) value -> SIntValue.toSIntValue((byte) value),
+						Long.valueOf(Byte.MIN_VALUE), Long.valueOf(Byte.MAX_VALUE), new long[0]),
+				Arguments.of("USINT", (LongFunction<Value>) value -> USIntValue.toUSIntValue((byte) value),
+						Long.valueOf(Byte.MIN_VALUE), Long.valueOf(Byte.MAX_VALUE), new long[0]),
+				Arguments.of("BYTE", (LongFunction<Value>) value -> ByteValue.toByteValue((byte) value),
+						Long.valueOf(Byte.MIN_VALUE), Long.valueOf(Byte.MAX_VALUE), new long[0]),
+				Arguments.of("CHAR", (LongFunction<Value>) value -> CharValue.toCharValue((byte) value),
+						Long.valueOf(Byte.MIN_VALUE), Long.valueOf(Byte.MAX_VALUE), new long[0]),
+				Arguments.of("INT", (LongFunction<Value>) value -> IntValue.toIntValue((short) value),
+						Long.valueOf(-128), Long.valueOf(127),
+						new long[] { -129, 128, Short.MIN_VALUE, Short.MAX_VALUE }),
+				Arguments.of("DINT", (LongFunction<Value>) value -> DIntValue.toDIntValue((int) value),
+						Long.valueOf(-128), Long.valueOf(127),
+						new long[] { -129, 128, Integer.MIN_VALUE, Integer.MAX_VALUE }),
+				Arguments.of("LINT", (LongFunction<Value>) LIntValue::toLIntValue, Long.valueOf(-128),
+						Long.valueOf(127), new long[] { -129, 128, Long.MIN_VALUE, Long.MAX_VALUE }),
+				Arguments.of("UINT", (LongFunction<Value>) value -> UIntValue.toUIntValue((short) value),
+						Long.valueOf(0), Long.valueOf(255), new long[] { -1, 256 }),
+				Arguments.of("UDINT", (LongFunction<Value>) value -> UDIntValue.toUDIntValue((int) value),
+						Long.valueOf(0), Long.valueOf(255), new long[] { -1, 256 }),
+				Arguments.of("ULINT", (LongFunction<Value>) ULIntValue::toULIntValue, Long.valueOf(0),
+						Long.valueOf(255), new long[] { -1, 256, Long.MIN_VALUE }),
+				Arguments.of("WORD", (LongFunction<Value>) value -> WordValue.toWordValue((short) value),
+						Long.valueOf(0), Long.valueOf(255), new long[] { -1, 256 }),
+				Arguments.of("DWORD", (LongFunction<Value>) value -> DWordValue.toDWordValue((int) value),
+						Long.valueOf(0), Long.valueOf(255), new long[] { -1, 256 }),
+				Arguments.of("LWORD", (LongFunction<Value>) LWordValue::toLWordValue, Long.valueOf(0),
+						Long.valueOf(255), new long[] { -1, 256, Long.MIN_VALUE }),
+				Arguments.of("WCHAR", (LongFunction<Value>) value -> WCharValue.toWCharValue((char) value),
+						Long.valueOf(0), Long.valueOf(127), new long[] { 128, Character.MAX_VALUE }));
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   agent - initial API and implementation and/or initial documentation
+ *******************************************************************************/
+package org.eclipse.fordiac.ide.model.typelibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The types of the tests: B uses A, C uses B, D uses the missing type X, and E
+ * uses nothing.
+ */
+@SuppressWarnings("nls")
+class ValidationStateTest {
+
+	private static final String PROJECT_NAME = "ValidationStateTest";
+
+	// every test uses a new project, so that no state is left from other tests
+	private static int projectCount;
+
+	private IProject project;
+	private TypeLibrary typeLibrary;
+	private IFile fileA;
+	private IFile fileB;
+	private IFile fileC;
+	private IFile fileD;
+	private IFile fileE;
+
+	@BeforeEach
+	void createProject() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME + projectCount++);
+		project.create(null);
+		project.open(null);
+		typeLibrary = TypeLibraryManager.INSTANCE.getTypeLibrary(project);
+		fileA = createType("A", "INT");
+		fileB = createType("B", "A");
+		fileC = createType("C", "B");
+		fileD = createType("D", "X");
+		fileE = createType("E", "INT");
+
+		final ValidationState state = ValidationState.load(project);
+		assertEquals(Set.of(fileA, fileB, fileC, fileD, fileE), state.getAffectedFiles(typeLibrary));
+		state.save(typeLibrary);
+	}
+
+	@AfterEach
+	void deleteProject() throws CoreException {
+		project.delete(true, true, null);
+	}
+
+	@Test
+	void unchangedFilesAreNotAffected() {
+		final ValidationState state = ValidationState.load(project);
+		assertTrue(state.getAffectedFiles(typeLibrary).isEmpty());
+	}
+
+	@Test
+	void changedFileAffectsDirectAndTransitiveDependents() throws CoreException {
+		fileA.setContents(toStream(structType("A", "DINT")), IResource.FORCE, null);
+		assertEquals(Set.of(fileA, fileB, fileC), ValidationState.load(project).getAffectedFiles(typeLibrary));
+	}
+
+	@Test
+	void changedFileWithoutDependentsAffectsOnlyItself() throws CoreException {
+		fileC.setContents(toStream(structType("C", "DINT")), IResource.FORCE, null);
+		assertEquals(Set.of(fileC), ValidationState.load(project).getAffectedFiles(typeLibrary));
+	}
+
+	@Test
+	void addedFileAffectsFilesReferencingItsTypeName() throws CoreException {
+		final IFile fileX = createType("X", "INT");
+		assertEquals(Set.of(fileX, fileD), ValidationState.load(project).getAffectedFiles(typeLibrary));
+	}
+
+	@Test
+	void removedFileAffectsDependents() throws CoreException {
+		final TypeEntry entryB = typeLibrary.getTypeEntry(fileB);
+		fileB.delete(true, null);
+		typeLibrary.removeTypeEntry(entryB);
+		assertEquals(Set.of(fileC), ValidationState.load(project).getAffectedFiles(typeLibrary));
+	}
+
+	@Test
+	void savedStateHasNoAffectedFiles() throws CoreException {
+		fileA.setContents(toStream(structType("A", "DINT")), IResource.FORCE, null);
+		final ValidationState state = ValidationState.load(project);
+		assertEquals(Set.of(fileA, fileB, fileC), state.getAffectedFiles(typeLibrary));
+		state.save(typeLibrary);
+		assertTrue(state.getAffectedFiles(typeLibrary).isEmpty());
+		assertTrue(ValidationState.load(project).getAffectedFiles(typeLibrary).isEmpty());
+	}
+
+	private IFile createType(final String name, final String memberType) throws CoreException {
+		final IFile file = project.getFile(name + ".dtp");
+		file.create(toStream(structType(name, memberType)), true, null);
+		typeLibrary.createTypeEntry(file);
+		return file;
+	}
+
+	private static ByteArrayInputStream toStream(final String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String structType(final String name, final String memberType) {
+		return """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<DataType Name="%s">
+					<StructuredType>
+						<VarDeclaration Name="MEMBER" Type="%s"/>
+					</StructuredType>
+				</DataType>
+				""".formatted(name, memberType);
+	}
+}